@@ -0,0 +1,73 @@
+package com.bomdestino.sgm.benchmark;
+
+import com.bomdestino.sgm.config.security.auth.SGMRole;
+import com.bomdestino.sgm.domain.Profile;
+import com.bomdestino.sgm.domain.User;
+import com.bomdestino.sgm.domain.enums.UserType;
+import com.bomdestino.sgm.util.Translator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.zalando.problem.jackson.ProblemModule;
+import org.zalando.problem.violations.ConstraintViolationProblemModule;
+
+import java.util.EnumSet;
+
+/**
+ * The objects shared by the benchmarks, built the same way of the Spring configuration but without the context.
+ */
+final class BenchmarkFixtures {
+
+    static final String BASE64_SECRET =
+            "c2dtLWJlbmNobWFyay1zZWNyZXQta2V5LXdpdGgtYXQtbGVhc3QtNjQtYnl0ZXMtZm9yLWhzNTEyLXNpZ25pbmctMDEyMzQ1Njc4OQ==";
+    static final String NUMBER_REGEX = "(?=.*[0-9])";
+    static final String LOWERCASE_REGEX = "(?=.*[a-z])";
+    static final String UPPERCASE_REGEX = "(?=.*[A-Z])";
+    static final String NON_ALPHABETIC_REGEX = "(?=.*[^a-zA-Z0-9])";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * The {@link Translator} of the *messages* bundle, as in the MessageConfig.
+     */
+    static Translator translator() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        return new Translator(messageSource);
+    }
+
+    /**
+     * The {@link ObjectMapper} of the HTTP message converter, as in the WebSecurityConfig.
+     */
+    static ObjectMapper objectMapper() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .modules(new ProblemModule(), new ConstraintViolationProblemModule(), new JavaTimeModule()).build();
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        return mapper;
+    }
+
+    /**
+     * An activated user of an administrative profile.
+     */
+    static User user(long id) {
+        Profile profile = new Profile();
+        profile.setId(1L);
+        profile.setName("Administrador");
+        profile.setRoles(EnumSet.allOf(SGMRole.class));
+        profile.setActivated(true);
+
+        User user = new User();
+        user.setId(id);
+        user.setUsername("usuario" + id);
+        user.setName("Usuário " + id);
+        user.setProfile(profile);
+        user.setType(UserType.NATURAL_PERSON);
+        user.setActivated(true);
+        return user;
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.bomdestino.sgm.benchmark;
+
+import com.bomdestino.sgm.domain.User;
+import com.bomdestino.sgm.dto.UserListResponseDTO;
+import com.bomdestino.sgm.dto.UserResponseDTO;
+import com.bomdestino.sgm.util.Translator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.bomdestino.sgm.util.TranslateConstants.NOT_FOUND_MESSAGE;
+
+/**
+ * Measure the response path of the resources: the DTO constructors built on *BeanUtils.copyProperties*, against the
+ * same mapping by hand, the message translation and the JSON serialization of a users page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private User user;
+    private Translator translator;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user(1L);
+        translator = BenchmarkFixtures.translator();
+    }
+
+    @Benchmark
+    public UserListResponseDTO userListDto() {
+        return new UserListResponseDTO(user);
+    }
+
+    @Benchmark
+    public UserListResponseDTO userListDtoByHand() {
+        return new UserListResponseDTO(user.getId(), user.getName(), user.getProfile().getName(),
+                user.getType().getType(), user.isActivated(), user.isBlocked(), user.isRuralProducer());
+    }
+
+    @Benchmark
+    public UserResponseDTO userDto() {
+        return new UserResponseDTO(user);
+    }
+
+    @Benchmark
+    public String translate() {
+        return translator.translate(NOT_FOUND_MESSAGE);
+    }
+
+    @Benchmark
+    public byte[] serializeUsersPage(UsersPage usersPage) throws JsonProcessingException {
+        return usersPage.objectMapper.writeValueAsBytes(usersPage.page);
+    }
+
+    /**
+     * A page of users as returned by the users resource, with the mapper of the HTTP message converter.
+     */
+    @State(Scope.Benchmark)
+    public static class UsersPage {
+
+        @Param({"20", "200"})
+        private int pageSize;
+
+        private ObjectMapper objectMapper;
+        private Page<UserListResponseDTO> page;
+
+        @Setup
+        public void setUp() {
+            objectMapper = BenchmarkFixtures.objectMapper();
+            List<UserListResponseDTO> users = new ArrayList<>(pageSize);
+            for (long id = 1; id <= pageSize; id++) {
+                users.add(new UserListResponseDTO(BenchmarkFixtures.user(id)));
+            }
+            page = new PageImpl<>(users, PageRequest.of(0, pageSize, Sort.by("name")), pageSize * 10L);
+        }
+
+    }
+
+}
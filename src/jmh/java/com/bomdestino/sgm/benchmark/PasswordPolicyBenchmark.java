@@ -0,0 +1,55 @@
+package com.bomdestino.sgm.benchmark;
+
+import com.bomdestino.sgm.config.security.password.PasswordPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compare the {@link PasswordPolicy} with the previous validation, that compiled the rule regexes on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordPolicyBenchmark {
+
+    private static final String NUMBER_REGEX = "(?=.*[0-9])";
+    private static final String LOWERCASE_REGEX = "(?=.*[a-z])";
+    private static final String UPPERCASE_REGEX = "(?=.*[A-Z])";
+    private static final String NON_ALPHABETIC_REGEX = "(?=.*[^a-zA-Z0-9])";
+    private static final String USERNAME = "maria.silva";
+
+    @Param({"Sgm@1234", "senhafraca", "Maria.Silva#2022", "Xy9#Xy9#Xy9#Xy9#Xy9#Xy9#Xy9#Xy9#"})
+    private String password;
+
+    private PasswordPolicy passwordPolicy;
+
+    @Setup
+    public void setUp() {
+        passwordPolicy = new PasswordPolicy(NUMBER_REGEX, LOWERCASE_REGEX, UPPERCASE_REGEX, NON_ALPHABETIC_REGEX, 7, 3);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        if (password.length() < 7) {
+            return false;
+        }
+        ArrayList<Boolean> containsList = new ArrayList<>();
+        containsList.add(Pattern.compile(NUMBER_REGEX).matcher(password).find());
+        containsList.add(Pattern.compile(LOWERCASE_REGEX).matcher(password).find());
+        containsList.add(Pattern.compile(UPPERCASE_REGEX).matcher(password).find());
+        containsList.add(Pattern.compile(NON_ALPHABETIC_REGEX).matcher(password).find());
+        return containsList.stream().filter(result -> result).count() == 4;
+    }
+
+    @Benchmark
+    public int policy() {
+        return passwordPolicy.check(USERNAME, password);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.bomdestino.sgm.benchmark;
+
+import com.bomdestino.sgm.config.security.password.BreachedPasswordFilter;
+import com.bomdestino.sgm.config.security.password.PasswordPolicy;
+import com.bomdestino.sgm.config.security.password.PasswordViolation;
+import com.bomdestino.sgm.util.Translator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.bomdestino.sgm.util.TranslateConstants.PASSWORD_BREACHED_MESSAGE;
+
+/**
+ * Measure the steps of the password validation of the {@link com.bomdestino.sgm.service.UserService}: the
+ * {@link PasswordPolicy} check, the translated message of a rejected password and the {@link BreachedPasswordFilter}
+ * lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordValidationBenchmark {
+
+    private static final String USERNAME = "maria.silva";
+
+    @Param({"Sgm@1234", "senhafraca", "maria.silva1A!"})
+    private String password;
+
+    private Translator translator;
+    private PasswordPolicy passwordPolicy;
+    private BreachedPasswordFilter breachedPasswordFilter;
+
+    @Setup
+    public void setUp() {
+        translator = BenchmarkFixtures.translator();
+        passwordPolicy = new PasswordPolicy(BenchmarkFixtures.NUMBER_REGEX, BenchmarkFixtures.LOWERCASE_REGEX,
+                BenchmarkFixtures.UPPERCASE_REGEX, BenchmarkFixtures.NON_ALPHABETIC_REGEX, 7, 3);
+        breachedPasswordFilter = new BreachedPasswordFilter(false, "data/breached-passwords.bloom");
+    }
+
+    /**
+     * @return the message of the violated rules, or null if the password is accepted.
+     */
+    @Benchmark
+    public String validatePassword() {
+        int violations = passwordPolicy.check(USERNAME, password);
+        if (violations != 0) {
+            return PasswordViolation.fromMask(violations).stream()
+                    .map(PasswordViolation::getMessageKey)
+                    .distinct()
+                    .map(translator::translate)
+                    .collect(Collectors.joining(" "));
+        }
+        return breachedPasswordFilter.isBreached(password) ? translator.translate(PASSWORD_BREACHED_MESSAGE) : null;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.bomdestino.sgm.benchmark;
+
+import com.bomdestino.sgm.config.metrics.SGMMetrics;
+import com.bomdestino.sgm.config.security.auth.SGMUserDetails;
+import com.bomdestino.sgm.config.security.jwt.JwtConfig;
+import com.bomdestino.sgm.config.security.jwt.JwtErrorResponses;
+import com.bomdestino.sgm.config.security.jwt.TokenProvider;
+import com.bomdestino.sgm.domain.User;
+import com.bomdestino.sgm.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the JWT work done on every request and on every login: the token signing, the validation with the user
+ * status and the {@link Authentication} built from the claims. The user status comes from memory, so only the
+ * CPU cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setBase64Secret(BenchmarkFixtures.BASE64_SECRET);
+        jwtConfig.setAccessTokenExpirationInMinutes(30);
+        jwtConfig.setRefreshTokenExpirationInMinutes(1440);
+
+        User user = BenchmarkFixtures.user(1L);
+        UserService userService = new UserService(null, null, null, null, null, null, null) {
+            @Override
+            public User getUserByUsername(String username) {
+                return user;
+            }
+        };
+
+        tokenProvider = new TokenProvider(null, jwtConfig,
+                new JwtErrorResponses(BenchmarkFixtures.translator(), BenchmarkFixtures.objectMapper()),
+                userService, null, null, new SGMMetrics(new SimpleMeterRegistry()));
+        tokenProvider.afterPropertiesSet();
+
+        SGMUserDetails userDetails = new SGMUserDetails(user);
+        authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        accessToken = tokenProvider.createAccessToken(authentication);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return tokenProvider.createAccessToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        // the response is only written when the token is rejected
+        return tokenProvider.validateAccessToken(accessToken, null).isPresent();
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(accessToken);
+    }
+
+}
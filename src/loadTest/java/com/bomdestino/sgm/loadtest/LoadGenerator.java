@@ -0,0 +1,175 @@
+package com.bomdestino.sgm.loadtest;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An open-loop load generator, the scenarios are started at fixed rates whatever the response times.
+ * <p>
+ * The load is a sequence of phases, each one runs its streams together, every stream paced by its own thread at its
+ * own rate. Each run is scheduled at its intended start time and its latency is measured from that time, not from
+ * when a worker picked it up, so a stalled server shows up in the percentiles instead of silently lowering the offered
+ * load. At most *concurrency* runs of a stream are in flight, past it a run is dropped and counted as an error of
+ * kind *Dropped*. A run is recorded in the phase it was scheduled in, even when it finishes after the phase.
+ */
+@Log4j2
+class LoadGenerator {
+
+    private static final String DROPPED = "Dropped";
+
+    private final SgmClient client;
+    private final ExecutorService workers;
+    private final Map<String, Scenario> scenarios;
+    private final int concurrency;
+    private final List<Semaphore> limits = new ArrayList<>();
+
+    LoadGenerator(SgmClient client, ExecutorService workers, Map<String, Scenario> scenarios, int concurrency) {
+        this.client = client;
+        this.workers = workers;
+        this.scenarios = scenarios;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Run the phases in order.
+     *
+     * @param phases it's the phases of the load profile.
+     * @return the {@link ScenarioStats} by scenario of each measured phase, by phase name, once the runs in flight have
+     * finished.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    Map<String, Map<String, ScenarioStats>> run(List<Phase> phases) throws InterruptedException {
+        phases.forEach(phase -> phase.getStreams().forEach(stream -> stream.getMix().keySet().forEach(name -> {
+            if (!scenarios.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown scenario " + name + ", expected one of " + scenarios.keySet());
+            }
+        })));
+
+        Map<String, Map<String, ScenarioStats>> results = new LinkedHashMap<>();
+        for (Phase phase : phases) {
+            log.info("Running the {} phase for {} s: {}", phase.getName(), phase.getDuration().getSeconds(), phase.getStreams());
+            Map<String, ScenarioStats> stats = new LinkedHashMap<>();
+            phase.getStreams().forEach(stream -> stream.getMix().keySet().forEach(name -> stats.putIfAbsent(name, new ScenarioStats())));
+            runPhase(phase, stats);
+            if (phase.isMeasured()) {
+                results.put(phase.getName(), stats);
+            }
+        }
+        for (Semaphore limit : limits) {
+            limit.acquire(concurrency);
+            limit.release(concurrency);
+        }
+        return results;
+    }
+
+    private void runPhase(Phase phase, Map<String, ScenarioStats> stats) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + phase.getDuration().toNanos();
+        List<Thread> pacers = new ArrayList<>();
+        for (Stream stream : phase.getStreams()) {
+            if (stream.getRate() <= 0) {
+                continue;
+            }
+            Semaphore limit = new Semaphore(concurrency);
+            limits.add(limit);
+            Thread pacer = new Thread(() -> pace(stream, stats, limit, start, end), "load-pacer-" + phase.getName());
+            pacer.start();
+            pacers.add(pacer);
+        }
+        try {
+            for (Thread pacer : pacers) {
+                pacer.join();
+            }
+        } catch (InterruptedException e) {
+            pacers.forEach(Thread::interrupt);
+            throw e;
+        }
+    }
+
+    private void pace(Stream stream, Map<String, ScenarioStats> stats, Semaphore limit, long start, long end) {
+        String[] schedule = stream.schedule();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / stream.getRate());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long n = 0; ; n++) {
+            long intendedStart = start + n * intervalNanos;
+            if (intendedStart >= end || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            String name = schedule[random.nextInt(schedule.length)];
+            ScenarioStats scenarioStats = stats.get(name);
+            if (!limit.tryAcquire()) {
+                scenarioStats.recordError(System.nanoTime() - intendedStart, DROPPED);
+                continue;
+            }
+            workers.execute(() -> execute(scenarios.get(name), scenarioStats, limit, intendedStart));
+        }
+    }
+
+    private void execute(Scenario scenario, ScenarioStats scenarioStats, Semaphore limit, long intendedStart) {
+        try {
+            scenario.run(client, ThreadLocalRandom.current());
+            scenarioStats.recordSuccess(System.nanoTime() - intendedStart);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            scenarioStats.recordError(System.nanoTime() - intendedStart, e);
+        } finally {
+            limit.release();
+        }
+    }
+
+    /**
+     * A phase of the load, its streams run together for the duration; the results of an unmeasured phase are dropped.
+     */
+    @Value
+    static class Phase {
+
+        String name;
+        Duration duration;
+        boolean measured;
+        List<Stream> streams;
+
+    }
+
+    /**
+     * A stream of runs at a constant rate, each run picks a scenario of the mix by its weight.
+     */
+    @Value
+    static class Stream {
+
+        Map<String, Integer> mix;
+        double rate;
+
+        String[] schedule() {
+            List<String> schedule = new ArrayList<>();
+            mix.forEach((name, weight) -> {
+                for (int n = 0; n < weight; n++) {
+                    schedule.add(name);
+                }
+            });
+            return schedule.toArray(new String[0]);
+        }
+
+        @Override
+        public String toString() {
+            return mix.keySet() + " at " + rate + " runs/s";
+        }
+
+    }
+
+}
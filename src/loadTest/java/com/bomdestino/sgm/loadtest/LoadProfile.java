@@ -0,0 +1,68 @@
+package com.bomdestino.sgm.loadtest;
+
+import com.bomdestino.sgm.loadtest.LoadGenerator.Phase;
+import com.bomdestino.sgm.loadtest.LoadGenerator.Stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.bomdestino.sgm.loadtest.Scenarios.CITIZEN_BROWSE;
+import static com.bomdestino.sgm.loadtest.Scenarios.CITIZEN_LOGIN;
+
+/**
+ * The shape of the offered load, as a sequence of phases.
+ */
+enum LoadProfile {
+
+    /**
+     * The weighted *mix* of scenarios at a constant *rate*.
+     */
+    MIX {
+        @Override
+        List<Phase> phases(LoadTestOptions options) {
+            List<Stream> mix = List.of(new Stream(options.getMix(), options.getRate()));
+            List<Phase> phases = new ArrayList<>();
+            if (!options.getWarmup().isZero()) {
+                phases.add(new Phase(WARMUP, options.getWarmup(), false, mix));
+            }
+            phases.add(new Phase(MEASUREMENT, options.getDuration(), true, mix));
+            return phases;
+        }
+    },
+
+    /**
+     * The *citizen-browse* scenario at a constant *rate* while the *citizen-login* scenario steps from the
+     * *baselineLoginRate* to the *spikeLoginRate*, to show whether the cheap reads stay flat during a login spike.
+     * The baseline phase lasts the *duration* and the spike phase the *spikeDuration*.
+     */
+    SPIKE {
+        @Override
+        List<Phase> phases(LoadTestOptions options) {
+            Stream browse = new Stream(Map.of(CITIZEN_BROWSE, 1), options.getRate());
+            List<Stream> baseline = List.of(browse, new Stream(Map.of(CITIZEN_LOGIN, 1), options.getBaselineLoginRate()));
+            List<Phase> phases = new ArrayList<>();
+            if (!options.getWarmup().isZero()) {
+                phases.add(new Phase(WARMUP, options.getWarmup(), false, baseline));
+            }
+            phases.add(new Phase(BASELINE, options.getDuration(), true, baseline));
+            phases.add(new Phase(SPIKE_PHASE, options.getSpikeDuration(), true,
+                    List.of(browse, new Stream(Map.of(CITIZEN_LOGIN, 1), options.getSpikeLoginRate()))));
+            return phases;
+        }
+    };
+
+    static final String WARMUP = "warmup";
+    static final String MEASUREMENT = "measurement";
+    static final String BASELINE = "baseline";
+    static final String SPIKE_PHASE = "spike";
+
+    /**
+     * Build the phases of the profile.
+     *
+     * @param options it's the options with the rates and durations.
+     * @return the list of {@link Phase} in running order.
+     */
+    abstract List<Phase> phases(LoadTestOptions options);
+
+}
@@ -0,0 +1,129 @@
+package com.bomdestino.sgm.loadtest;
+
+import lombok.Getter;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The options of a load test run, read from {@code --name=value} arguments.
+ */
+@Getter
+class LoadTestOptions {
+
+    private static final String DEFAULT_MIX =
+            "citizen-browse:50,citizen-refresh:15,citizen-login:10,admin-user-search:15,admin-profile-edit:10";
+
+    /**
+     * The base URL of a running application, when absent the application is started on an embedded database.
+     */
+    private URI target;
+    private LoadProfile profile = LoadProfile.MIX;
+
+    /**
+     * The runs per second of the mix, or of the *citizen-browse* scenario on the spike profile.
+     */
+    private double rate = 50;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+
+    /**
+     * The runs in flight of each stream, the runs past it are dropped.
+     */
+    private int concurrency = 200;
+    private int citizens = 10000;
+    private int managers = 20;
+    private int sessions = 100;
+    private String password = "Carga@2022";
+    private Map<String, Integer> mix = parseMix(DEFAULT_MIX);
+
+    /**
+     * The *citizen-login* runs per second of the spike profile, before and during the spike.
+     */
+    private double baselineLoginRate = 2;
+    private double spikeLoginRate = 100;
+    private Duration spikeDuration = Duration.ofSeconds(30);
+    private Path report = Paths.get("build", "reports", "loadtest", "report.json");
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid argument " + arg + ", expected --name=value");
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (name) {
+                case "target":
+                    options.target = URI.create(value);
+                    break;
+                case "profile":
+                    options.profile = LoadProfile.valueOf(value.toUpperCase(Locale.ROOT));
+                    break;
+                case "rate":
+                    options.rate = Double.parseDouble(value);
+                    break;
+                case "duration":
+                    options.duration = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "warmup":
+                    options.warmup = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "concurrency":
+                    options.concurrency = Integer.parseInt(value);
+                    break;
+                case "citizens":
+                    options.citizens = Integer.parseInt(value);
+                    break;
+                case "managers":
+                    options.managers = Integer.parseInt(value);
+                    break;
+                case "sessions":
+                    options.sessions = Integer.parseInt(value);
+                    break;
+                case "password":
+                    options.password = value;
+                    break;
+                case "mix":
+                    options.mix = parseMix(value);
+                    break;
+                case "baselineLoginRate":
+                    options.baselineLoginRate = Double.parseDouble(value);
+                    break;
+                case "spikeLoginRate":
+                    options.spikeLoginRate = Double.parseDouble(value);
+                    break;
+                case "spikeDuration":
+                    options.spikeDuration = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "report":
+                    options.report = Paths.get(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Read the scenario weights, as *name:weight* pairs separated by commas, a name alone has weight 1.
+     */
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            mix.put(parts[0], parts.length > 1 ? Integer.parseInt(parts[1]) : 1);
+        }
+        return mix;
+    }
+
+}
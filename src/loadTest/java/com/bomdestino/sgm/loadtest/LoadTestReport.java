@@ -0,0 +1,172 @@
+package com.bomdestino.sgm.loadtest;
+
+import com.bomdestino.sgm.loadtest.LoadGenerator.Phase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.bomdestino.sgm.loadtest.LoadProfile.BASELINE;
+import static com.bomdestino.sgm.loadtest.LoadProfile.SPIKE_PHASE;
+import static com.bomdestino.sgm.loadtest.Scenarios.CITIZEN_BROWSE;
+
+/**
+ * The throughput, latency percentiles and error rate of each scenario of each measured phase of a load test.
+ * <p>
+ * On the spike profile, the *citizen-browse* latencies of the baseline and spike phases are also compared.
+ */
+@Value
+class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    LoadProfile profile;
+    List<PhaseReport> phases;
+    SpikeComparison spikeComparison;
+
+    static LoadTestReport of(List<Phase> phases, Map<String, Map<String, ScenarioStats>> results, LoadTestOptions options) {
+        List<PhaseReport> phaseReports = new ArrayList<>();
+        for (Phase phase : phases) {
+            Map<String, ScenarioStats> stats = results.get(phase.getName());
+            if (stats == null) {
+                continue;
+            }
+            long seconds = Math.max(1, phase.getDuration().getSeconds());
+            List<ScenarioReport> scenarios = new ArrayList<>();
+            stats.forEach((name, scenarioStats) -> scenarios.add(ScenarioReport.of(name, scenarioStats, seconds)));
+            phaseReports.add(new PhaseReport(phase.getName(), seconds, scenarios));
+        }
+        return new LoadTestReport(options.getProfile(), phaseReports, SpikeComparison.of(phaseReports));
+    }
+
+    /**
+     * Format the report as a table per phase, one line per scenario.
+     */
+    String toTable() {
+        StringBuilder table = new StringBuilder();
+        for (PhaseReport phase : phases) {
+            table.append(String.format(Locale.ROOT, "%n%s phase, %d s%n%-20s %8s %9s %8s %9s %9s %9s %9s %9s  %s%n",
+                    phase.getName(), phase.getDurationInSeconds(), "scenario", "runs", "ok/s", "errors", "p50 ms",
+                    "p90 ms", "p99 ms", "p99.9 ms", "max ms", "error kinds"));
+            for (ScenarioReport scenario : phase.getScenarios()) {
+                table.append(String.format(Locale.ROOT, "%-20s %8d %9.1f %7.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                        scenario.getName(), scenario.getRuns(), scenario.getThroughput(), scenario.getErrorRate() * 100,
+                        scenario.getP50(), scenario.getP90(), scenario.getP99(), scenario.getP999(), scenario.getMax(),
+                        scenario.getErrors().isEmpty() ? "-" : scenario.getErrors()));
+            }
+        }
+        if (spikeComparison != null) {
+            table.append(String.format(Locale.ROOT, "%n%s during the login spike: p50 %.1f -> %.1f ms, p99 %.1f -> %.1f ms%n",
+                    spikeComparison.getScenario(), spikeComparison.getBaselineP50(), spikeComparison.getSpikeP50(),
+                    spikeComparison.getBaselineP99(), spikeComparison.getSpikeP99()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Write the report as JSON, to be compared between runs.
+     *
+     * @param path it's the path of the JSON file, its directories are created.
+     * @throws IOException if the file couldn't be written.
+     */
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+    }
+
+    private static double toMillis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    /**
+     * The results of a measured phase.
+     */
+    @Value
+    static class PhaseReport {
+
+        String name;
+        long durationInSeconds;
+        List<ScenarioReport> scenarios;
+
+        ScenarioReport getScenario(String scenario) {
+            return scenarios.stream().filter(report -> report.getName().equals(scenario)).findFirst().orElse(null);
+        }
+
+    }
+
+    /**
+     * The results of a scenario, the throughput counts the successful runs per second and the latencies are in
+     * milliseconds.
+     */
+    @Value
+    static class ScenarioReport {
+
+        String name;
+        long runs;
+        double throughput;
+        double errorRate;
+        double p50;
+        double p90;
+        double p99;
+        double p999;
+        double max;
+        Map<String, Long> errors;
+
+        static ScenarioReport of(String name, ScenarioStats stats, long seconds) {
+            Histogram histogram = stats.histogram();
+            long successes = stats.successes();
+            Map<String, Long> errors = stats.errors();
+            long runs = successes + errors.values().stream().mapToLong(Long::longValue).sum();
+            return new ScenarioReport(name, runs, successes / (double) seconds,
+                    runs == 0 ? 0 : (runs - successes) / (double) runs,
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(90)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue()),
+                    errors);
+        }
+
+    }
+
+    /**
+     * The *citizen-browse* latencies before and during the login spike, in milliseconds.
+     */
+    @Value
+    static class SpikeComparison {
+
+        String scenario;
+        double baselineP50;
+        double baselineP99;
+        double spikeP50;
+        double spikeP99;
+
+        static SpikeComparison of(List<PhaseReport> phases) {
+            ScenarioReport baseline = null;
+            ScenarioReport spike = null;
+            for (PhaseReport phase : phases) {
+                if (BASELINE.equals(phase.getName())) {
+                    baseline = phase.getScenario(CITIZEN_BROWSE);
+                } else if (SPIKE_PHASE.equals(phase.getName())) {
+                    spike = phase.getScenario(CITIZEN_BROWSE);
+                }
+            }
+            if (baseline == null || spike == null) {
+                return null;
+            }
+            return new SpikeComparison(CITIZEN_BROWSE, baseline.getP50(), baseline.getP99(), spike.getP50(), spike.getP99());
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.bomdestino.sgm.loadtest;
+
+import com.bomdestino.sgm.SGMApplication;
+import com.bomdestino.sgm.loadtest.LoadGenerator.Phase;
+import com.bomdestino.sgm.config.invalidation.InvalidationBus;
+import com.bomdestino.sgm.repository.AreaRepository;
+import com.bomdestino.sgm.repository.ProfileRepository;
+import com.bomdestino.sgm.repository.SGMServiceRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Run the load test: *./gradlew loadTest [-Prate=50] [-Pduration=60] [-Pmix=citizen-browse:3,admin-user-search:1]*,
+ * or the login spike: *./gradlew loadTest -Pprofile=spike [-PspikeLoginRate=100] [-PspikeDuration=30]*.
+ * <p>
+ * Without a *target*, the application is started in this JVM with the *loadtest* profile, on an embedded H2 database
+ * in MySQL mode and random ports, then the population is seeded. With a *target*, the scenarios run against that
+ * application, which must hold the population of an earlier run. The report is logged and written as JSON.
+ */
+@Log4j2
+public final class LoadTestRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = null;
+        URI target = options.getTarget();
+        if (target == null) {
+            context = start();
+            seeder(context).seed(options);
+            target = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        }
+
+        ExecutorService workers = Executors.newCachedThreadPool(new CustomizableThreadFactory("load-"));
+        try {
+            SgmClient client = new SgmClient(target, REQUEST_TIMEOUT);
+            Scenarios scenarios = new Scenarios(options);
+            scenarios.prepare(client);
+
+            List<Phase> phases = options.getProfile().phases(options);
+            Map<String, Map<String, ScenarioStats>> results =
+                    new LoadGenerator(client, workers, scenarios.all(), options.getConcurrency()).run(phases);
+            LoadTestReport report = LoadTestReport.of(phases, results, options);
+            log.info("Load test of {} finished:{}", target, report.toTable());
+            report.write(options.getReport());
+            log.info("Load test report written to {}", options.getReport().toAbsolutePath());
+        } finally {
+            workers.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(SGMApplication.class)
+                .run("--spring.profiles.active=loadtest");
+    }
+
+    private static LoadTestSeeder seeder(ConfigurableApplicationContext context) {
+        return new LoadTestSeeder(
+                context.getBean(JdbcTemplate.class),
+                context.getBean(PasswordEncoder.class),
+                context.getBean(TransactionTemplate.class),
+                context.getBean(ProfileRepository.class),
+                context.getBean(AreaRepository.class),
+                context.getBean(SGMServiceRepository.class),
+                context.getBean(InvalidationBus.class));
+    }
+
+}
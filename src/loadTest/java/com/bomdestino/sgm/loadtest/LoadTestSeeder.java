@@ -0,0 +1,150 @@
+package com.bomdestino.sgm.loadtest;
+
+import com.bomdestino.sgm.config.invalidation.InvalidationBus;
+import com.bomdestino.sgm.config.invalidation.InvalidationEntity;
+import com.bomdestino.sgm.config.security.auth.SGMRole;
+import com.bomdestino.sgm.domain.Area;
+import com.bomdestino.sgm.domain.Profile;
+import com.bomdestino.sgm.domain.SGMService;
+import com.bomdestino.sgm.domain.enums.UserType;
+import com.bomdestino.sgm.repository.AreaRepository;
+import com.bomdestino.sgm.repository.ProfileRepository;
+import com.bomdestino.sgm.repository.SGMServiceRepository;
+import com.google.common.collect.Sets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.bomdestino.sgm.util.Constants.SYSTEM_ADMIN_USERNAME;
+import static com.bomdestino.sgm.util.TranslateConstants.CITIZEN_PROFILE;
+
+/**
+ * Seed the population of the load test on top of the initial data of the
+ * {@link com.bomdestino.sgm.util.DBLoadService}.
+ * <p>
+ * The profiles, areas and services go through the repositories; the users are inserted in JDBC batches sharing one
+ * password hash, so the seeding doesn't pay a BCrypt round per user. The usernames and profile names are
+ * deterministic, so the scenarios can run against an application seeded by an earlier run.
+ */
+@Log4j2
+@RequiredArgsConstructor
+class LoadTestSeeder {
+
+    static final String CITIZEN_USERNAME = "carga.cidadao%d";
+    static final String MANAGER_USERNAME = "carga.gestor%d";
+    static final String MANAGER_PROFILE = "Gestor de carga";
+    static final String EDITABLE_PROFILE = "Perfil de carga ";
+
+    private static final int EDITABLE_PROFILES = 10;
+    private static final int AREAS = 8;
+    private static final int SERVICES_PER_AREA = 12;
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] FIRST_NAMES = {"Ana", "João", "Maria", "José", "Antônio", "Francisca", "Luíza",
+            "Sebastião", "Conceição", "Márcio", "Cecília", "Vitória", "Otávio", "Inês", "Lúcia", "Raimundo"};
+    private static final String[] LAST_NAMES = {"Silva", "Conceição", "Araújo", "Gonçalves", "Magalhães", "Simões",
+            "Brandão", "Falcão", "Assunção", "Sousa", "Guimarães", "Romão", "Estêvão", "Lima"};
+    private static final String INSERT_USER = "INSERT INTO `user` (created_by, created_date, last_modified_by, "
+            + "last_modified_date, activated, username, name, password_hash, profile_id, last_password_update, "
+            + "last_logon_attempt, logon_attempt, is_super_user, is_blocked, is_rural_producer, type) "
+            + "VALUES (?, ?, ?, ?, TRUE, ?, ?, ?, ?, ?, ?, 0, FALSE, FALSE, FALSE, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ProfileRepository profileRepository;
+    private final AreaRepository areaRepository;
+    private final SGMServiceRepository sgmServiceRepository;
+    private final InvalidationBus invalidationBus;
+
+    /**
+     * Create the profiles, the catalog and the users of the load test.
+     *
+     * @param options it's the options with the population size and the password of the users.
+     */
+    void seed(LoadTestOptions options) {
+        long start = System.nanoTime();
+        Profile managerProfile = transactionTemplate.execute(status -> createProfiles());
+        List<Long> serviceIds = transactionTemplate.execute(status -> createCatalog());
+        String passwordHash = passwordEncoder.encode(options.getPassword());
+        Long citizenProfileId = profileRepository.findByNameIgnoreCase(CITIZEN_PROFILE).getId();
+
+        insertUsers(MANAGER_USERNAME, options.getManagers(), managerProfile.getId(), UserType.LEGAL_ENTITY, passwordHash);
+        insertUsers(CITIZEN_USERNAME, options.getCitizens(), citizenProfileId, UserType.NATURAL_PERSON, passwordHash);
+
+        invalidationBus.publish(InvalidationEntity.SERVICE, serviceIds);
+        log.info("Load test population seeded: {} citizens, {} managers, {} services in {} ms", options.getCitizens(),
+                options.getManagers(), serviceIds.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Profile createProfiles() {
+        for (int i = 1; i <= EDITABLE_PROFILES; i++) {
+            profileRepository.save(Profile.builder()
+                    .name(EDITABLE_PROFILE + i)
+                    .description(EDITABLE_PROFILE + i)
+                    .roles(Sets.newHashSet(SGMRole.VIEW_CITIZEN_SERVICES))
+                    .activated(true)
+                    .build());
+        }
+        return profileRepository.save(Profile.builder()
+                .name(MANAGER_PROFILE)
+                .roles(Sets.newHashSet(
+                        SGMRole.AUDITOR,
+                        SGMRole.PROFILE_MANAGEMENT,
+                        SGMRole.USER_MANAGEMENT,
+                        SGMRole.SERVICE_MANAGEMENT))
+                .activated(true)
+                .build());
+    }
+
+    private List<Long> createCatalog() {
+        List<SGMService> services = new ArrayList<>();
+        for (int i = 1; i <= AREAS; i++) {
+            Area area = areaRepository.save(Area.builder()
+                    .name("Área de carga " + i)
+                    .activated(true)
+                    .build());
+            for (int j = 1; j <= SERVICES_PER_AREA; j++) {
+                services.add(SGMService.builder()
+                        .name("Serviço de carga " + i + "." + j)
+                        .path("/carga/" + i + "/" + j)
+                        .areas(Sets.newHashSet(area))
+                        .localPath(j % 2 == 0)
+                        .activated(j % 4 != 0)
+                        .build());
+            }
+        }
+        return sgmServiceRepository.saveAll(services).stream().map(SGMService::getId).collect(Collectors.toList());
+    }
+
+    private void insertUsers(String usernameFormat, int count, Long profileId, UserType type, String passwordHash) {
+        Random random = new Random(count);
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int from = 1; from <= count; from += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < from + BATCH_SIZE && i <= count; i++) {
+                String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                        + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                rows.add(new Object[]{SYSTEM_ADMIN_USERNAME, now, SYSTEM_ADMIN_USERNAME, now,
+                        String.format(usernameFormat, i), name, passwordHash, profileId, now, now, type.name()});
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER, rows));
+        }
+    }
+
+    /**
+     * The first names of the seeded users, used as search terms.
+     */
+    static String[] firstNames() {
+        return FIRST_NAMES.clone();
+    }
+
+}
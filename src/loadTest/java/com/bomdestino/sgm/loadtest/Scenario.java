@@ -0,0 +1,20 @@
+package com.bomdestino.sgm.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A scripted user interaction, the latency of a run is the time of all its requests.
+ */
+@FunctionalInterface
+interface Scenario {
+
+    /**
+     * Run the requests of the scenario once.
+     *
+     * @param client it's the client of the application under test.
+     * @param random it's the random source of the running thread.
+     * @throws Exception if a request fails or is answered with an unexpected status.
+     */
+    void run(SgmClient client, ThreadLocalRandom random) throws Exception;
+
+}
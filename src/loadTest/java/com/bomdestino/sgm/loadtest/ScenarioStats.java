@@ -0,0 +1,56 @@
+package com.bomdestino.sgm.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latencies and errors of a scenario, the latencies are recorded in microseconds.
+ */
+class ScenarioStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder successes = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void recordSuccess(long latencyNanos) {
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        successes.increment();
+    }
+
+    /**
+     * Record a failed run, its latency is kept too, a timeout is as slow as it looks.
+     */
+    void recordError(long latencyNanos, Throwable error) {
+        recordError(latencyNanos, error instanceof UnexpectedStatusException
+                ? String.valueOf(((UnexpectedStatusException) error).getStatus())
+                : error.getClass().getSimpleName());
+    }
+
+    void recordError(long latencyNanos, String kind) {
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        errors.computeIfAbsent(kind, key -> new LongAdder()).increment();
+    }
+
+    Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    long successes() {
+        return successes.sum();
+    }
+
+    Map<String, Long> errors() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((kind, count) -> counts.put(kind, count.sum()));
+        return counts;
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.bomdestino.sgm.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.bomdestino.sgm.util.EndpointConstants.ACCOUNT_URL;
+import static com.bomdestino.sgm.util.EndpointConstants.AREA_URL;
+import static com.bomdestino.sgm.util.EndpointConstants.PARAMS_ACTIVATED;
+import static com.bomdestino.sgm.util.EndpointConstants.PROFILE_URL;
+import static com.bomdestino.sgm.util.EndpointConstants.SERVICE_URL;
+import static com.bomdestino.sgm.util.EndpointConstants.USER_URL;
+
+/**
+ * The citizen and admin scenarios of the load test, over a pool of sessions logged in before the measurement.
+ * <p>
+ * The pooled sessions keep the login cost out of the browse and admin scenarios, the *citizen-login* scenario
+ * measures it on its own.
+ */
+@Log4j2
+class Scenarios {
+
+    static final String CITIZEN_LOGIN = "citizen-login";
+    static final String CITIZEN_REFRESH = "citizen-refresh";
+    static final String CITIZEN_BROWSE = "citizen-browse";
+    static final String ADMIN_USER_SEARCH = "admin-user-search";
+    static final String ADMIN_PROFILE_EDIT = "admin-profile-edit";
+
+    private static final String CONTENT = "content";
+    private static final String ID = "id";
+    private static final String DESCRIPTION = "description";
+    private static final String PAGE = "?page=0&size=20";
+
+    private final LoadTestOptions options;
+    private final String[] searchTerms = LoadTestSeeder.firstNames();
+
+    private List<Session> citizenSessions;
+    private List<Session> managerSessions;
+    private List<Long> areaIds;
+    private List<Long> profileIds;
+
+    Scenarios(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Log in the pooled sessions and read the ids of the catalog areas and of the editable profiles.
+     *
+     * @param client it's the client of the application under test.
+     * @throws IOException          if a request fails.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    void prepare(SgmClient client) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        citizenSessions = new ArrayList<>();
+        for (int i = 0; i < Math.min(options.getSessions(), options.getCitizens()); i++) {
+            citizenSessions.add(client.login(randomCitizen(random), options.getPassword()));
+        }
+        managerSessions = new ArrayList<>();
+        for (int i = 1; i <= options.getManagers(); i++) {
+            managerSessions.add(client.login(String.format(LoadTestSeeder.MANAGER_USERNAME, i), options.getPassword()));
+        }
+        Session manager = managerSessions.get(0);
+
+        areaIds = ids(client.get(AREA_URL + PARAMS_ACTIVATED + "?page=0&size=2000", manager));
+        profileIds = ids(client.get(PROFILE_URL + "?size=2000&name="
+                + SgmClient.encode(LoadTestSeeder.EDITABLE_PROFILE.trim()), manager));
+        log.info("Load test prepared: {} citizen sessions, {} manager sessions, {} areas, {} editable profiles",
+                citizenSessions.size(), managerSessions.size(), areaIds.size(), profileIds.size());
+    }
+
+    /**
+     * Get the scenarios by their names.
+     *
+     * @return a map of {@link Scenario} by name, in the default mix order.
+     */
+    Map<String, Scenario> all() {
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        scenarios.put(CITIZEN_LOGIN, this::citizenLogin);
+        scenarios.put(CITIZEN_REFRESH, this::citizenRefresh);
+        scenarios.put(CITIZEN_BROWSE, this::citizenBrowse);
+        scenarios.put(ADMIN_USER_SEARCH, this::adminUserSearch);
+        scenarios.put(ADMIN_PROFILE_EDIT, this::adminProfileEdit);
+        return Collections.unmodifiableMap(scenarios);
+    }
+
+    private void citizenLogin(SgmClient client, ThreadLocalRandom random) throws Exception {
+        Session session = client.login(randomCitizen(random), options.getPassword());
+        client.get(ACCOUNT_URL, session);
+    }
+
+    private void citizenRefresh(SgmClient client, ThreadLocalRandom random) throws Exception {
+        client.refresh(pick(citizenSessions, random));
+    }
+
+    private void citizenBrowse(SgmClient client, ThreadLocalRandom random) throws Exception {
+        Session session = pick(citizenSessions, random);
+        client.get(ACCOUNT_URL, session);
+        client.get(SERVICE_URL + PARAMS_ACTIVATED + "/" + pick(areaIds, random) + PAGE, session);
+    }
+
+    private void adminUserSearch(SgmClient client, ThreadLocalRandom random) throws Exception {
+        client.get(USER_URL + PAGE + "&sort=name,asc&search=" + SgmClient.encode(searchTerms[random.nextInt(searchTerms.length)]),
+                pick(managerSessions, random));
+    }
+
+    private void adminProfileEdit(SgmClient client, ThreadLocalRandom random) throws Exception {
+        Session session = pick(managerSessions, random);
+        String path = PROFILE_URL + "/" + pick(profileIds, random);
+        ObjectNode profile = (ObjectNode) client.get(path, session);
+        profile.remove("onlyRead");
+        profile.put(DESCRIPTION, LoadTestSeeder.EDITABLE_PROFILE + random.nextInt(1_000_000));
+        client.put(path, session, profile);
+    }
+
+    private String randomCitizen(ThreadLocalRandom random) {
+        return String.format(LoadTestSeeder.CITIZEN_USERNAME, random.nextInt(options.getCitizens()) + 1);
+    }
+
+    private static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.path(CONTENT).forEach(item -> ids.add(item.get(ID).asLong()));
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("The application has no load test data, run it once without --target");
+        }
+        return ids;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.bomdestino.sgm.loadtest;
+
+import lombok.Getter;
+
+/**
+ * The tokens of a logged user, the access token is replaced by the refresh scenario.
+ */
+@Getter
+class Session {
+
+    private final String username;
+    private volatile String accessToken;
+    private volatile String refreshToken;
+
+    Session(String username, String accessToken, String refreshToken) {
+        this.username = username;
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    void update(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.bomdestino.sgm.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static com.bomdestino.sgm.util.Constants.AUTHORIZATION_HEADER;
+import static com.bomdestino.sgm.util.Constants.BEARER_TOKEN;
+import static com.bomdestino.sgm.util.EndpointConstants.AUTHENTICATE_URL;
+import static com.bomdestino.sgm.util.EndpointConstants.REFRESH_AUTHENTICATE_URL;
+
+/**
+ * A small JSON client of the SGM endpoints on the JDK {@link HttpClient}.
+ */
+class SgmClient {
+
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String JSON = "application/json";
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String REFRESH_TOKEN = "refreshToken";
+
+    private final URI baseUri;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    SgmClient(URI baseUri, Duration timeout) {
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    Session login(String username, String password) throws IOException, InterruptedException {
+        JsonNode tokens = send("POST", AUTHENTICATE_URL, null, Map.of("username", username, "password", password));
+        return new Session(username, tokens.get(ACCESS_TOKEN).asText(), tokens.get(REFRESH_TOKEN).asText());
+    }
+
+    void refresh(Session session) throws IOException, InterruptedException {
+        JsonNode tokens = send("POST", AUTHENTICATE_URL + REFRESH_AUTHENTICATE_URL, null,
+                Map.of(REFRESH_TOKEN, session.getRefreshToken()));
+        session.update(tokens.get(ACCESS_TOKEN).asText(), tokens.get(REFRESH_TOKEN).asText());
+    }
+
+    JsonNode get(String path, Session session) throws IOException, InterruptedException {
+        return send("GET", path, session, null);
+    }
+
+    JsonNode put(String path, Session session, Object body) throws IOException, InterruptedException {
+        return send("PUT", path, session, body);
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private JsonNode send(String method, String path, Session session, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(timeout)
+                .header(CONTENT_TYPE_HEADER, JSON);
+        if (session != null) {
+            request.header(AUTHORIZATION_HEADER, BEARER_TOKEN + session.getAccessToken());
+        }
+        request.method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new UnexpectedStatusException(method, path, response.statusCode());
+        }
+        return response.body().length == 0 ? NullNode.getInstance() : objectMapper.readTree(response.body());
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.bomdestino.sgm.loadtest;
+
+import lombok.Getter;
+
+/**
+ * Thrown when the application answers a step of a scenario with a status other than {@code 2xx}.
+ */
+@Getter
+class UnexpectedStatusException extends RuntimeException {
+
+    private final int status;
+
+    UnexpectedStatusException(String method, String path, int status) {
+        super(method + " " + path + " answered " + status, null, false, false);
+        this.status = status;
+    }
+
+}
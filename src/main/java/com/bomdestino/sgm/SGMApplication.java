@@ -1,6 +1,7 @@
 package com.bomdestino.sgm;
 
 import com.bomdestino.sgm.util.DBLoadService;
+import com.bomdestino.sgm.util.ScaleDataGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.boot.CommandLineRunner;
@@ -21,10 +22,12 @@ public class SGMApplication implements CommandLineRunner {
     }
 
     private final DBLoadService dbHelper;
+    private final ScaleDataGenerator scaleDataGenerator;
 
     @Override
     public void run(String... args) {
         dbHelper.initData();
+        scaleDataGenerator.generate();
     }
 
     private static void logApplicationStartup() {
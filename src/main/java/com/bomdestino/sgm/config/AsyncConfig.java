@@ -0,0 +1,63 @@
+package com.bomdestino.sgm.config;
+
+import com.bomdestino.sgm.config.bulkhead.BulkheadContext;
+import com.bomdestino.sgm.config.deadline.RequestDeadline;
+import com.bomdestino.sgm.config.timing.ServerTiming;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+/**
+ * Configuration of the application executors based on Spring.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String AUTH_EXECUTOR = "authExecutor";
+    public static final String AUTH_THREAD_POOL = "authThreadPool";
+
+    /**
+     * Create the thread pool of the login and refresh work, it's sized apart from the Tomcat request threads.
+     * <p>
+     * When the queue is full, the tasks are rejected and the requests are answered with {@code 503}. It's replaced by
+     * {@link VirtualThreadsConfig} in the virtual threads mode.
+     */
+    @Bean(AUTH_THREAD_POOL)
+    @ConditionalOnProperty(name = "application.virtual-threads.enabled", havingValue = "false", matchIfMissing = true)
+    public ThreadPoolTaskExecutor authThreadPool(@Value("${application.auth-executor.core-size:8}") int coreSize,
+                                                 @Value("${application.auth-executor.max-size:8}") int maxSize,
+                                                 @Value("${application.auth-executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("auth-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setTaskDecorator(AsyncConfig::propagateRequestContext);
+        return executor;
+    }
+
+    /**
+     * Carry the bulkhead group, the deadline and the timing of the request to a task of the request executors.
+     *
+     * @param task it's the task to be decorated.
+     * @return the task running with the context of the submitting request.
+     */
+    public static Runnable propagateRequestContext(Runnable task) {
+        return BulkheadContext.propagate(RequestDeadline.propagate(ServerTiming.propagate(task)));
+    }
+
+    /**
+     * Create the executor of the authentication endpoints, it propagates the security context to the pool threads.
+     */
+    @Bean(AUTH_EXECUTOR)
+    public AsyncTaskExecutor authExecutor(@Qualifier(AUTH_THREAD_POOL) AsyncTaskExecutor authThreadPool) {
+        return new DelegatingSecurityContextAsyncTaskExecutor(authThreadPool);
+    }
+
+}
@@ -1,10 +1,28 @@
 package com.bomdestino.sgm.config;
 
+import com.bomdestino.sgm.config.bulkhead.BulkheadProperties;
+import com.bomdestino.sgm.config.deadline.DeadlineProperties;
+import com.bomdestino.sgm.config.datasource.BulkheadRoutingDataSource;
+import com.bomdestino.sgm.config.datasource.DeadlineDataSource;
+import com.bomdestino.sgm.config.datasource.ReadReplicaRoutingDataSource;
+import com.bomdestino.sgm.config.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import javax.sql.DataSource;
+import java.util.Objects;
+
 /**
  * Configuration of {@link DatabaseConfig} based on Spring.
  */
@@ -14,4 +32,58 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableTransactionManagement
 public class DatabaseConfig {
 
+    /**
+     * Create the primary connection pool from the *spring.datasource* properties.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Create the read replica connection pool from the *application.datasource.replica.hikari* properties.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.datasource.replica", name = "enabled", havingValue = "true")
+    @ConfigurationProperties("application.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * Create the connection pools of the bulkhead groups, routed by the group of the current request.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.bulkhead", name = "enabled", havingValue = "true")
+    public BulkheadRoutingDataSource bulkheadRoutingDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                                               BulkheadProperties bulkheadProperties) {
+        return new BulkheadRoutingDataSource(primaryDataSource, bulkheadProperties);
+    }
+
+    /**
+     * Create the {@link DataSource} used by the application.
+     * <p>
+     * When the bulkheads are enabled, the primary database connections come from the pool of the request group. When
+     * the read replica is enabled, the read-only transactions are routed to it, except for the users that have written
+     * inside the read-your-writes window. When the deadlines are enabled, the statements get the remaining time of the
+     * request as their query timeout.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ObjectProvider<BulkheadRoutingDataSource> bulkheadRoutingDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 DeadlineProperties deadlineProperties) {
+        DataSource primary = bulkheadRoutingDataSource.getIfAvailable(() -> primaryDataSource);
+        DataSource replica = replicaDataSource.getIfAvailable();
+        DataSource target = Objects.isNull(replica) ? primary
+                : new ReadReplicaRoutingDataSource(primary, replica, readYourWritesTracker);
+        if (deadlineProperties.isEnabled()) {
+            target = new DeadlineDataSource(target);
+        }
+        return new LazyConnectionDataSourceProxy(target);
+    }
+
 }
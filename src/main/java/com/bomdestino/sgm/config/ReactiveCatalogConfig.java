@@ -0,0 +1,104 @@
+package com.bomdestino.sgm.config;
+
+import com.bomdestino.sgm.resource.reactive.CitizenCatalogHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import org.zalando.problem.jackson.ProblemModule;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Configuration of the reactive server of the citizen catalog based on Spring WebFlux and Reactor Netty.
+ * <p>
+ * It runs beside the Tomcat server, on its own port, and serves only the high fan-in citizen reads of the
+ * {@link CitizenCatalogHandler}; the admin CRUD stays on the servlet stack. A few event-loop threads hold the open
+ * connections, so the citizen sessions don't compete with the Tomcat workers. It's started once the application is
+ * ready, after the catalog snapshot has been loaded.
+ */
+@Log4j2
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.reactive-catalog.enabled", havingValue = "true")
+public class ReactiveCatalogConfig implements DisposableBean {
+
+    private final CitizenCatalogHandler citizenCatalogHandler;
+
+    @Value("${application.reactive-catalog.host:0.0.0.0}")
+    private String host;
+
+    @Value("${application.reactive-catalog.port:8081}")
+    private int port;
+
+    private DisposableServer server;
+
+    /**
+     * Bind the reactive server.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        server = HttpServer.create()
+                .host(host)
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(buildHttpHandler()))
+                .bindNow();
+        log.info("Reactive citizen catalog listening on {}:{}", host, server.port());
+    }
+
+    @Override
+    public void destroy() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private HttpHandler buildHttpHandler() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .modules(new ProblemModule(), new JavaTimeModule()).build();
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper)))
+                .build();
+
+        return WebHttpHandlerBuilder.webHandler(RouterFunctions.toWebHandler(citizenCatalogHandler.routes(), strategies))
+                .filter(corsWebFilter())
+                .build();
+    }
+
+    /**
+     * The same CORS rules of the servlet {@link org.springframework.web.filter.CorsFilter}.
+     */
+    private static CorsWebFilter corsWebFilter() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowCredentials(true);
+        config.setAllowedOriginPatterns(Collections.singletonList("*"));
+        config.setAllowedHeaders(Arrays.asList("Origin", "Content-Type", "Accept", "responseType", "Authorization", "Language"));
+        config.setExposedHeaders(Collections.singletonList("Authorization"));
+        config.setAllowedMethods(Arrays.asList("GET", "OPTIONS"));
+        source.registerCorsConfiguration("/**", config);
+        return new CorsWebFilter(source);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.bomdestino.sgm.config;
+
+import com.bomdestino.sgm.util.Translator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+
+import static com.bomdestino.sgm.util.Constants.DETAIL_KEY;
+import static com.bomdestino.sgm.util.TranslateConstants.ERR_SERVICE_BUSY;
+
+/**
+ * The {@code 503} response of the requests rejected by the overload filters, rendered once at startup.
+ */
+@Component
+public class RejectedRequestResponse {
+
+    private final byte[] body;
+
+    public RejectedRequestResponse(Translator translator, ObjectMapper objectMapper) {
+        try {
+            body = objectMapper.writeValueAsBytes(Collections.singletonMap(DETAIL_KEY, translator.translate(ERR_SERVICE_BUSY)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write the rejection in the response.
+     *
+     * @param response   it's the response object injected by Spring.
+     * @param retryAfter it's the seconds the client should wait before retrying.
+     * @throws IOException if the response can't be written.
+     */
+    public void write(HttpServletResponse response, String retryAfter) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+}
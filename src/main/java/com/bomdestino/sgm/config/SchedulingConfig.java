@@ -0,0 +1,12 @@
+package com.bomdestino.sgm.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration of {@link SchedulingConfig} based on Spring.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
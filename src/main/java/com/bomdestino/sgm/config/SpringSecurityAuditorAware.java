@@ -1,6 +1,5 @@
 package com.bomdestino.sgm.config;
 
-import com.bomdestino.sgm.util.Constants;
 import com.bomdestino.sgm.util.SecurityUtils;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Component;
@@ -15,7 +14,7 @@ public class SpringSecurityAuditorAware implements AuditorAware<String> {
 
     @Override
     public Optional<String> getCurrentAuditor() {
-        return Optional.of(SecurityUtils.getCurrentUserLogin().orElse(Constants.SYSTEM_ACCOUNT));
+        return Optional.of(SecurityUtils.getCurrentAuditor());
     }
 
 }
@@ -0,0 +1,92 @@
+package com.bomdestino.sgm.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.bomdestino.sgm.config.AsyncConfig.AUTH_THREAD_POOL;
+
+/**
+ * Configuration of the virtual threads execution mode based on Spring.
+ * <p>
+ * When *application.virtual-threads.enabled* is set, the Tomcat requests, the authentication executor and the Spring
+ * MVC async tasks run on virtual threads. The platform thread pools stop limiting the blocking JPA work, so the real
+ * concurrency bound is the *maximum-pool-size* of Hikari, the waiting threads are parked in the pool up to its
+ * *connection-timeout*.
+ * <p>
+ * It requires a JDK with virtual threads (21 or later), the executor is looked up by reflection since the build
+ * targets Java 11. The MySQL driver holds monitors during the socket reads, which pins the carrier threads; run with
+ * {@code -Djdk.tracePinnedThreads=short} (*./gradlew bootRun -PtracePinnedThreads*) or record the
+ * *jdk.VirtualThreadPinned* JFR event to find them.
+ */
+@Log4j2
+@Configuration
+@ConditionalOnProperty(name = "application.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private static final String VIRTUAL_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+
+    /**
+     * Create the executor that starts a new virtual thread per task.
+     *
+     * @return the {@link ExecutorService} of virtual threads.
+     * @throws IllegalStateException if the running JDK doesn't support virtual threads.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod(VIRTUAL_EXECUTOR_FACTORY).invoke(null);
+            log.info("Virtual threads enabled on Java {}", Runtime.version());
+            return executor;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("The virtual threads mode requires Java 21 or later, running on Java "
+                    + Runtime.version(), e);
+        }
+    }
+
+    /**
+     * Run the Tomcat request processing on virtual threads, the *server.tomcat.threads* limits no longer apply.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsProtocolHandlerCustomizer(
+            @Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    /**
+     * Replace the bounded authentication pool, the logins wait for a Hikari connection instead of a pool thread.
+     */
+    @Bean(AUTH_THREAD_POOL)
+    public AsyncTaskExecutor authThreadPool(@Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor) {
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(virtualThreadExecutor);
+        executor.setTaskDecorator(AsyncConfig::propagateRequestContext);
+        return executor;
+    }
+
+    /**
+     * Run the Spring MVC async tasks on virtual threads.
+     */
+    @Bean
+    public WebMvcConfigurer virtualThreadsAsyncSupportConfigurer(
+            @Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(new TaskExecutorAdapter(virtualThreadExecutor));
+            }
+        };
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.bomdestino.sgm.config;
 
+import com.bomdestino.sgm.config.timing.TimedJacksonHttpMessageConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -10,7 +11,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -59,20 +59,22 @@ public class WebSecurityConfig extends WebMvcConfigurationSupport {
         config.setAllowCredentials(true);
         config.setAllowedOriginPatterns(Collections.singletonList("*"));
         config.setAllowedHeaders(Arrays.asList("Origin", "Content-Type", "Accept", "responseType", "Authorization", "Language"));
+        config.setExposedHeaders(Collections.singletonList("Authorization"));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "OPTIONS", "DELETE", "PATCH"));
         source.registerCorsConfiguration("/**", config);
         return new CorsFilter(source);
     }
 
     /**
-     * Configuration to convert {@link org.zalando.problem.Problem} in a custom response.
+     * Configuration to convert {@link org.zalando.problem.Problem} in a custom response, the serialization is timed
+     * for the *Server-Timing* header.
      */
     @Override
     public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
         ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
                 .modules(new ProblemModule(), new ConstraintViolationProblemModule(), new JavaTimeModule()).build();
         mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        converters.add(new MappingJackson2HttpMessageConverter(mapper));
+        converters.add(new TimedJacksonHttpMessageConverter(mapper));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded compartment of concurrent requests, with its saturation counters.
+ */
+public class Bulkhead {
+
+    @Getter
+    private final BulkheadGroup group;
+    @Getter
+    private final int maxConcurrent;
+    private final long maxWaitInMs;
+    private final Semaphore permits;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(BulkheadGroup group, int maxConcurrent, long maxWaitInMs) {
+        this.group = group;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitInMs = maxWaitInMs;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Try to enter the compartment, waiting up to the configured time.
+     *
+     * @return true if a slot has been taken, it must be released by {@link #exit()}, or false if it's full.
+     */
+    public boolean tryEnter() {
+        boolean acquired;
+        try {
+            acquired = maxWaitInMs <= 0 ? permits.tryAcquire() : permits.tryAcquire(maxWaitInMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        (acquired ? accepted : rejected).increment();
+        return acquired;
+    }
+
+    /**
+     * Release the slot taken by {@link #tryEnter()}.
+     */
+    public void exit() {
+        permits.release();
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import com.bomdestino.sgm.config.RejectedRequestResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the {@link BulkheadFilter} based on Spring.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.bulkhead", name = "enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    private static final int BULKHEAD_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 10;
+
+    /**
+     * Register the {@link BulkheadFilter} ahead of the Spring Security chain.
+     */
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(BulkheadRegistry bulkheadRegistry,
+                                                                 BulkheadProperties properties,
+                                                                 RejectedRequestResponse rejectedRequestResponse) {
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(
+                new BulkheadFilter(bulkheadRegistry, properties, rejectedRequestResponse));
+        registration.setOrder(BULKHEAD_FILTER_ORDER);
+        return registration;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Holds the {@link BulkheadGroup} of the request handled by the current thread, it's read by the connection routing.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BulkheadContext {
+
+    private static final ThreadLocal<BulkheadGroup> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Get the group of the current thread.
+     *
+     * @return the current {@link BulkheadGroup} or null outside a request.
+     */
+    public static BulkheadGroup current() {
+        return CURRENT.get();
+    }
+
+    static void set(BulkheadGroup group) {
+        CURRENT.set(group);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Carry the group of the submitting thread to a task, used as the task decorator of the request executors.
+     *
+     * @param task it's the task to be decorated.
+     * @return the task running with the group of the submitting thread.
+     */
+    public static Runnable propagate(Runnable task) {
+        BulkheadGroup group = CURRENT.get();
+        if (group == null) {
+            return task;
+        }
+        return () -> {
+            BulkheadGroup previous = CURRENT.get();
+            CURRENT.set(group);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+}
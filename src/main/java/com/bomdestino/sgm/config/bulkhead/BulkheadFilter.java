@@ -0,0 +1,96 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import com.bomdestino.sgm.config.RejectedRequestResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Admits each request into the {@link Bulkhead} of its {@link BulkheadGroup}, a full compartment is answered at once
+ * with {@code 503} and *Retry-After*, so it never holds a Tomcat thread or a connection of the other groups.
+ * <p>
+ * It runs before the Spring Security chain and exposes the group in the {@link BulkheadContext}, so the token
+ * validation queries already use the connection pool of the group. The async requests, as the login, keep their slot
+ * until they complete, so the compartment bounds their work on the executor too.
+ */
+@Log4j2
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RejectedRequestResponse rejectedRequestResponse;
+    private final String retryAfter;
+
+    public BulkheadFilter(BulkheadRegistry bulkheadRegistry, BulkheadProperties properties,
+                          RejectedRequestResponse rejectedRequestResponse) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.rejectedRequestResponse = rejectedRequestResponse;
+        this.retryAfter = String.valueOf(properties.getRetryAfterInSeconds());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BulkheadGroup group = BulkheadGroup.of(request);
+        Bulkhead bulkhead = bulkheadRegistry.get(group);
+        if (!bulkhead.tryEnter()) {
+            log.debug("Bulkhead {} is full, rejecting {}", group, request.getServletPath());
+            rejectedRequestResponse.write(response, retryAfter);
+            return;
+        }
+        BulkheadContext.set(group);
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ExitOnComplete(bulkhead));
+                async = true;
+            }
+        } finally {
+            BulkheadContext.clear();
+            if (!async) {
+                bulkhead.exit();
+            }
+        }
+    }
+
+    /**
+     * Releases the slot of an async request when its processing completes, after a timeout or an error too.
+     */
+    private static class ExitOnComplete implements AsyncListener {
+
+        private final Bulkhead bulkhead;
+
+        ExitOnComplete(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            bulkhead.exit();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // released by onComplete
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // released by onComplete
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import org.springframework.http.HttpMethod;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static com.bomdestino.sgm.util.EndpointConstants.*;
+
+/**
+ * The workload compartments of the API, keyed on the {@link com.bomdestino.sgm.util.EndpointConstants} URL groups.
+ */
+public enum BulkheadGroup {
+
+    /**
+     * The login and refresh endpoints.
+     */
+    AUTH,
+
+    /**
+     * The citizen reads: the account and the activated areas and services.
+     */
+    CITIZEN,
+
+    /**
+     * Every other endpoint, mostly the admin listings and writes.
+     */
+    ADMIN;
+
+    private static final String ACTIVATED_SERVICES_PREFIX = SERVICE_URL + PARAMS_ACTIVATED + "/";
+    private static final String ACTIVATED_AREAS_URL = AREA_URL + PARAMS_ACTIVATED;
+
+    /**
+     * Resolve the compartment of a request.
+     *
+     * @param request it's the request object injected by Spring.
+     * @return the {@link BulkheadGroup} of the request.
+     */
+    public static BulkheadGroup of(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (path.startsWith(AUTHENTICATE_URL)) {
+            return AUTH;
+        }
+        if (HttpMethod.GET.matches(request.getMethod()) && (ACCOUNT_URL.equals(path) || ACTIVATED_AREAS_URL.equals(path)
+                || path.startsWith(ACTIVATED_SERVICES_PREFIX))) {
+            return CITIZEN;
+        }
+        return ADMIN;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration of the workload bulkheads based on Spring.
+ */
+@ConfigurationProperties(prefix = "application.bulkhead")
+@Component
+@NoArgsConstructor
+@Data
+public class BulkheadProperties {
+
+    private boolean enabled = false;
+    private Integer retryAfterInSeconds = 1;
+    private Map<BulkheadGroup, Compartment> groups = new EnumMap<>(BulkheadGroup.class);
+
+    /**
+     * Get the configuration of a group, the defaults are used when it isn't configured.
+     */
+    public Compartment getCompartment(BulkheadGroup group) {
+        return groups.getOrDefault(group, new Compartment());
+    }
+
+    /**
+     * The limits of a single compartment.
+     */
+    @NoArgsConstructor
+    @Data
+    public static class Compartment {
+
+        /**
+         * Maximum number of requests of the group handled at the same time.
+         */
+        private Integer maxConcurrent = 50;
+
+        /**
+         * Time a request waits for a free slot before being rejected, zero rejects at once.
+         */
+        private Integer maxWaitInMs = 0;
+
+        /**
+         * Size of the dedicated connection pool, zero shares the primary pool.
+         */
+        private Integer poolSize = 0;
+
+    }
+
+}
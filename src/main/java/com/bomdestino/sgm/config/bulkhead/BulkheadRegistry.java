@@ -0,0 +1,33 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds the {@link Bulkhead} of each {@link BulkheadGroup}, built from the {@link BulkheadProperties}.
+ */
+@Component
+public class BulkheadRegistry {
+
+    private final Map<BulkheadGroup, Bulkhead> bulkheads = new EnumMap<>(BulkheadGroup.class);
+
+    public BulkheadRegistry(BulkheadProperties properties) {
+        for (BulkheadGroup group : BulkheadGroup.values()) {
+            BulkheadProperties.Compartment compartment = properties.getCompartment(group);
+            bulkheads.put(group, new Bulkhead(group, compartment.getMaxConcurrent(), compartment.getMaxWaitInMs()));
+        }
+    }
+
+    public Bulkhead get(BulkheadGroup group) {
+        return bulkheads.get(group);
+    }
+
+    public Collection<Bulkhead> getAll() {
+        return Collections.unmodifiableCollection(bulkheads.values());
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.bomdestino.sgm.config.datasource;
+
+import com.bomdestino.sgm.config.bulkhead.BulkheadContext;
+import com.bomdestino.sgm.config.bulkhead.BulkheadGroup;
+import com.bomdestino.sgm.config.bulkhead.BulkheadProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Routes the connections of each {@link BulkheadGroup} to its own pool of the primary database.
+ * <p>
+ * The group pools copy the configuration of the primary pool with their own size. The groups without a dedicated
+ * pool, and the work outside a request, use the primary pool. The pools are named after the primary pool, or
+ * *sgm* when it has no name yet.
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String DEFAULT_POOL_NAME = "sgm";
+
+    private final HikariDataSource primary;
+    private final Map<BulkheadGroup, HikariDataSource> pools = new EnumMap<>(BulkheadGroup.class);
+
+    public BulkheadRoutingDataSource(HikariDataSource primary, BulkheadProperties properties) {
+        this.primary = primary;
+        for (BulkheadGroup group : BulkheadGroup.values()) {
+            int poolSize = properties.getCompartment(group).getPoolSize();
+            if (poolSize > 0) {
+                HikariConfig config = new HikariConfig();
+                primary.copyStateTo(config);
+                config.setPoolName(Objects.toString(primary.getPoolName(), DEFAULT_POOL_NAME) + "-"
+                        + group.name().toLowerCase(Locale.ROOT));
+                config.setMaximumPoolSize(poolSize);
+                config.setMinimumIdle(Math.min(config.getMinimumIdle(), poolSize));
+                pools.put(group, new HikariDataSource(config));
+            }
+        }
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return BulkheadContext.current();
+    }
+
+    /**
+     * Get the pool statistics of a group, the primary pool for the groups without a dedicated one.
+     *
+     * @param group it's the group of the pool.
+     * @return the {@link HikariPoolMXBean} or empty if the pool hasn't been started yet.
+     */
+    public Optional<HikariPoolMXBean> getPool(BulkheadGroup group) {
+        return Optional.ofNullable(pools.getOrDefault(group, primary).getHikariPoolMXBean());
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.bomdestino.sgm.config.datasource;
+
+import com.bomdestino.sgm.config.deadline.RequestDeadline;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the remaining time of the {@link RequestDeadline} as the query timeout of every statement.
+ * <p>
+ * Every connection is wrapped and every statement gets its timeout, cleared when there is no deadline: the driver
+ * caches the prepared statements of a pooled connection, so a statement prepared by a request with a deadline would
+ * otherwise keep its timeout for the later callers, as the invalidation bus polls and the startup data loads. The
+ * JDBC timeout is in seconds, so it's rounded up. A statement created after the deadline fails at once, so the
+ * driver cancels nothing and the connection goes back to the pool.
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+
+    private static final String CREATE_STATEMENT = "createStatement";
+    private static final String PREPARE_STATEMENT = "prepareStatement";
+    private static final String PREPARE_CALL = "prepareCall";
+
+    public DeadlineDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(DeadlineDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new DeadlineConnectionHandler(connection));
+    }
+
+    /**
+     * Sets the query timeout of the statements created by the connection, zero when there is no deadline.
+     */
+    private static class DeadlineConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        DeadlineConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            boolean createsStatement = CREATE_STATEMENT.equals(name) || PREPARE_STATEMENT.equals(name)
+                    || PREPARE_CALL.equals(name);
+            long remaining = createsStatement ? RequestDeadline.remainingMillis() : RequestDeadline.NO_DEADLINE;
+            if (remaining <= 0) {
+                throw new SQLTimeoutException("The request deadline has passed");
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if (createsStatement) {
+                ((Statement) result).setQueryTimeout(remaining == RequestDeadline.NO_DEADLINE ? 0
+                        : (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remaining + 999)));
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.bomdestino.sgm.config.datasource;
+
+import com.bomdestino.sgm.util.SecurityUtils;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes the read-only transactions to the read replica and everything else to the primary database.
+ * <p>
+ * It must be wrapped by a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so the connection
+ * is only fetched after the transaction read-only flag has been exposed. When the replica can't give a connection,
+ * the read falls back to the primary, and the replica isn't tried again for a few seconds, so the
+ * requests don't each wait for its connection timeout.
+ */
+@Log4j2
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    static final long REPLICA_RETRY_DELAY_IN_SECONDS = 10;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long replicaRetryDelayInNanos;
+    private volatile long replicaRetryAt = System.nanoTime();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker) {
+        this(primary, replica, readYourWritesTracker, REPLICA_RETRY_DELAY_IN_SECONDS);
+    }
+
+    ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker,
+                                 long replicaRetryDelayInSeconds) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaRetryDelayInNanos = TimeUnit.SECONDS.toNanos(replicaRetryDelayInSeconds);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Target.PRIMARY, primary);
+        targets.put(Target.REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA && System.nanoTime() - replicaRetryAt >= 0) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                markReplicaDown(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA && System.nanoTime() - replicaRetryAt >= 0) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                markReplicaDown(e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        String username = SecurityUtils.getCurrentUserLogin().orElse(null);
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.registerWrite(username);
+            return Target.PRIMARY;
+        }
+        return readYourWritesTracker.isWithinWindow(username) ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    private void markReplicaDown(SQLException e) {
+        replicaRetryAt = System.nanoTime() + replicaRetryDelayInNanos;
+        log.warn("The read replica is unavailable, reading from the primary for {} s: {}",
+                TimeUnit.NANOSECONDS.toSeconds(replicaRetryDelayInNanos), e.getMessage());
+    }
+
+}
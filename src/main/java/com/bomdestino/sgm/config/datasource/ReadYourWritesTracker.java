@@ -0,0 +1,63 @@
+package com.bomdestino.sgm.config.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the users that have written recently, so their reads are not routed to a lagging read replica.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long windowInNanos;
+    private final Map<String, Long> windowEndByUsername = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(@Value("${application.datasource.replica.read-your-writes-window-in-seconds:5}") long windowInSeconds) {
+        this.windowInNanos = TimeUnit.SECONDS.toNanos(windowInSeconds);
+    }
+
+    /**
+     * Open the read-your-writes window for the user.
+     *
+     * @param username it's the username of the user that is writing, it's ignored if null.
+     */
+    public void registerWrite(String username) {
+        if (Objects.isNull(username)) {
+            return;
+        }
+        long now = System.nanoTime();
+        windowEndByUsername.put(username, now + windowInNanos);
+        if (windowEndByUsername.size() > PRUNE_THRESHOLD) {
+            windowEndByUsername.values().removeIf(windowEnd -> windowEnd - now < 0);
+        }
+    }
+
+    /**
+     * Verify if the user has written recently.
+     *
+     * @param username it's the username of the user to be verified.
+     * @return true if the user is inside the read-your-writes window or false otherwise.
+     */
+    public boolean isWithinWindow(String username) {
+        if (Objects.isNull(username)) {
+            return false;
+        }
+        Long windowEnd = windowEndByUsername.get(username);
+        if (Objects.isNull(windowEnd)) {
+            return false;
+        }
+        if (windowEnd - System.nanoTime() < 0) {
+            windowEndByUsername.remove(username, windowEnd);
+            return false;
+        }
+        return true;
+    }
+
+}
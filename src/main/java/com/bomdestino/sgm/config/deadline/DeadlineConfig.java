@@ -0,0 +1,28 @@
+package com.bomdestino.sgm.config.deadline;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the {@link DeadlineFilter} based on Spring.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.deadline", name = "enabled", havingValue = "true")
+public class DeadlineConfig {
+
+    private static final int DEADLINE_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 30;
+
+    /**
+     * Register the {@link DeadlineFilter} first, so the budget counts from the request arrival.
+     */
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(DeadlineProperties properties) {
+        FilterRegistrationBean<DeadlineFilter> registration = new FilterRegistrationBean<>(new DeadlineFilter(properties));
+        registration.setOrder(DEADLINE_FILTER_ORDER);
+        return registration;
+    }
+
+}
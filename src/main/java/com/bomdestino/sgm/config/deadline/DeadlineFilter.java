@@ -0,0 +1,60 @@
+package com.bomdestino.sgm.config.deadline;
+
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Starts the {@link RequestDeadline} of each request, from the budget of its endpoint or from the client header when
+ * it's shorter.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final DeadlineProperties properties;
+
+    public DeadlineFilter(DeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.start(resolveBudget(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private long resolveBudget(HttpServletRequest request) {
+        long budget = properties.getDefaultBudgetInMs();
+        String path = request.getServletPath();
+        for (Map.Entry<String, Integer> entry : properties.getBudgets().entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                budget = entry.getValue();
+                break;
+            }
+        }
+
+        String requested = request.getHeader(properties.getHeader());
+        if (Strings.isNotBlank(requested)) {
+            try {
+                budget = Math.min(budget, Math.max(0, Long.parseLong(requested.trim())));
+            } catch (NumberFormatException e) {
+                // an invalid header keeps the endpoint budget
+            }
+        }
+        return budget;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.bomdestino.sgm.config.deadline;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the request deadlines based on Spring.
+ */
+@ConfigurationProperties(prefix = "application.deadline")
+@Component
+@NoArgsConstructor
+@Data
+public class DeadlineProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * The header where the client may send a shorter budget, in milliseconds.
+     */
+    private String header = "X-Request-Timeout";
+    private Integer defaultBudgetInMs = 10000;
+
+    /**
+     * The budgets by path pattern, in milliseconds, the first matching pattern is used.
+     */
+    private Map<String, Integer> budgets = new LinkedHashMap<>();
+
+}
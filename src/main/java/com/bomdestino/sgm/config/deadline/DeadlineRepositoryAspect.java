@@ -0,0 +1,37 @@
+package com.bomdestino.sgm.config.deadline;
+
+import com.bomdestino.sgm.exception.exceptions.DeadlineExceededException;
+import com.bomdestino.sgm.util.Translator;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.bomdestino.sgm.util.TranslateConstants.ERR_DEADLINE_EXCEEDED;
+
+/**
+ * Stops the requests past their deadline before each repository call, so the abandoned work doesn't take another
+ * connection or statement. The statements already running are bounded by the
+ * {@link com.bomdestino.sgm.config.datasource.DeadlineDataSource} query timeout.
+ */
+@Log4j2
+@Aspect
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(prefix = "application.deadline", name = "enabled", havingValue = "true")
+public class DeadlineRepositoryAspect {
+
+    private final Translator translator;
+
+    @Before("this(org.springframework.data.repository.Repository)")
+    public void checkDeadline(JoinPoint joinPoint) {
+        if (RequestDeadline.remainingMillis() <= 0) {
+            log.debug("Deadline exceeded before {}", joinPoint.getSignature().toShortString());
+            throw new DeadlineExceededException(translator.translate(ERR_DEADLINE_EXCEEDED));
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.bomdestino.sgm.config.deadline;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the deadline of the request handled by the current thread, as a {@link System#nanoTime()} instant.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RequestDeadline {
+
+    /**
+     * The remaining time when there is no deadline.
+     */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Get the time left until the deadline of the current thread.
+     *
+     * @return the remaining milliseconds, zero or negative if it has passed, or {@link #NO_DEADLINE}.
+     */
+    public static long remainingMillis() {
+        Long deadline = CURRENT.get();
+        if (deadline == null) {
+            return NO_DEADLINE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    static void start(long budgetInMs) {
+        CURRENT.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetInMs));
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Carry the deadline of the submitting thread to a task, used as the task decorator of the request executors.
+     *
+     * @param task it's the task to be decorated.
+     * @return the task running with the deadline of the submitting thread.
+     */
+    public static Runnable propagate(Runnable task) {
+        Long deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            Long previous = CURRENT.get();
+            CURRENT.set(deadline);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+}
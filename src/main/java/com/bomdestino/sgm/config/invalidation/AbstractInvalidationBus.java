@@ -0,0 +1,120 @@
+package com.bomdestino.sgm.config.invalidation;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Base class for the {@link InvalidationBus} transports, it batches the events of each transaction and delivers them
+ * to the local listeners after the commit.
+ */
+@Log4j2
+public abstract class AbstractInvalidationBus implements InvalidationBus {
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(InvalidationEntity entity, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<InvalidationEvent> events = toEvents(entity, ids);
+            send(events);
+            dispatch(events);
+            return;
+        }
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (Objects.isNull(pending)) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.addAll(toEvents(entity, ids));
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Write the events in the transport, it runs inside the publishing transaction, just before the commit.
+     *
+     * @param events it's the events of the transaction.
+     */
+    protected void beforeCommit(Collection<InvalidationEvent> events) {
+    }
+
+    /**
+     * Send the events to the other nodes, it runs after the publishing transaction commits.
+     *
+     * @param events it's the events of the transaction.
+     */
+    protected void afterCommit(Collection<InvalidationEvent> events) {
+    }
+
+    /**
+     * Send the events published without a transaction to the other nodes.
+     *
+     * @param events it's the published events.
+     */
+    protected abstract void send(Collection<InvalidationEvent> events);
+
+    /**
+     * Deliver the events to the local listeners, a failing listener doesn't stop the others.
+     *
+     * @param events it's the events to be delivered.
+     */
+    protected void dispatch(Collection<InvalidationEvent> events) {
+        for (InvalidationEvent event : events) {
+            for (InvalidationListener listener : listeners) {
+                try {
+                    listener.onInvalidation(event);
+                } catch (RuntimeException e) {
+                    log.error("Invalidation listener failed for {} {}", event.getEntity(), event.getEntityId(), e);
+                }
+            }
+        }
+    }
+
+    private static List<InvalidationEvent> toEvents(InvalidationEntity entity, Collection<Long> ids) {
+        List<InvalidationEvent> events = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            events.add(new InvalidationEvent(entity, id, false));
+        }
+        return events;
+    }
+
+    /**
+     * The events published by a transaction, deduplicated and in publishing order.
+     */
+    private class PendingEvents implements TransactionSynchronization {
+
+        private final Set<InvalidationEvent> events = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            AbstractInvalidationBus.this.beforeCommit(events);
+        }
+
+        @Override
+        public void afterCommit() {
+            AbstractInvalidationBus.this.afterCommit(events);
+            dispatch(events);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AbstractInvalidationBus.this);
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.bomdestino.sgm.config.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link InvalidationBus} that delivers the events to every application context running in the same JVM.
+ * <p>
+ * It's meant for the tests that start several contexts to simulate a multi-node deployment.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.invalidation", name = "transport", havingValue = "in-process")
+public class InProcessInvalidationBus extends AbstractInvalidationBus {
+
+    private static final Set<InProcessInvalidationBus> NODES = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void join() {
+        NODES.add(this);
+    }
+
+    @PreDestroy
+    public void leave() {
+        NODES.remove(this);
+    }
+
+    @Override
+    protected void afterCommit(Collection<InvalidationEvent> events) {
+        send(events);
+    }
+
+    @Override
+    protected void send(Collection<InvalidationEvent> events) {
+        List<InvalidationEvent> remoteEvents = new ArrayList<>(events.size());
+        for (InvalidationEvent event : events) {
+            remoteEvents.add(new InvalidationEvent(event.getEntity(), event.getEntityId(), true));
+        }
+        for (InProcessInvalidationBus node : NODES) {
+            if (node != this) {
+                node.dispatch(remoteEvents);
+            }
+        }
+    }
+
+}
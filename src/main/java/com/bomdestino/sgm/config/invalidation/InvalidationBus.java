@@ -0,0 +1,39 @@
+package com.bomdestino.sgm.config.invalidation;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Publish the entity changes to the in-process caches of every node.
+ * <p>
+ * Inside a transaction, the events are collected and only delivered after the commit. A rolled back transaction
+ * publishes nothing.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Publish the change of a set of entities.
+     *
+     * @param entity it's the type of the changed entities.
+     * @param ids    it's the ids of the changed entities.
+     */
+    void publish(InvalidationEntity entity, Collection<Long> ids);
+
+    /**
+     * Publish the change of an entity.
+     *
+     * @param entity it's the type of the changed entity.
+     * @param id     it's the id of the changed entity.
+     */
+    default void publish(InvalidationEntity entity, Long id) {
+        publish(entity, Collections.singletonList(id));
+    }
+
+    /**
+     * Register a listener for the local and the remote changes.
+     *
+     * @param listener it's the listener to be registered.
+     */
+    void subscribe(InvalidationListener listener);
+
+}
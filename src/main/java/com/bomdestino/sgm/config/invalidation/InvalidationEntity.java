@@ -0,0 +1,12 @@
+package com.bomdestino.sgm.config.invalidation;
+
+/**
+ * The entity types whose changes are published on the {@link InvalidationBus}.
+ */
+public enum InvalidationEntity {
+
+    USER,
+    PROFILE,
+    SERVICE
+
+}
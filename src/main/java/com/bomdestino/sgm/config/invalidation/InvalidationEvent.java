@@ -0,0 +1,19 @@
+package com.bomdestino.sgm.config.invalidation;
+
+import lombok.Value;
+
+/**
+ * A change of an entity, published after the transaction that changed it commits.
+ */
+@Value
+public class InvalidationEvent {
+
+    InvalidationEntity entity;
+    Long entityId;
+
+    /**
+     * True when the change has been made by another node.
+     */
+    boolean remote;
+
+}
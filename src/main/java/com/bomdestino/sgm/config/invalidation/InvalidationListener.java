@@ -0,0 +1,11 @@
+package com.bomdestino.sgm.config.invalidation;
+
+/**
+ * Receives the {@link InvalidationEvent} published on the {@link InvalidationBus}.
+ */
+@FunctionalInterface
+public interface InvalidationListener {
+
+    void onInvalidation(InvalidationEvent event);
+
+}
@@ -0,0 +1,30 @@
+package com.bomdestino.sgm.config.invalidation;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration of the {@link InvalidationBus} based on Spring.
+ */
+@ConfigurationProperties(prefix = "application.invalidation")
+@Component
+@NoArgsConstructor
+@Data
+public class InvalidationProperties {
+
+    /**
+     * The transport of the events: *jdbc* or *in-process*.
+     */
+    private String transport = "jdbc";
+    private Integer pollIntervalInMs = 1000;
+    private Integer batchSize = 500;
+
+    /**
+     * Time a change-log row may take to become visible after its insert, the high-water mark never passes newer rows.
+     */
+    private Integer settleTimeInSeconds = 10;
+    private Integer retentionInMinutes = 60;
+
+}
@@ -0,0 +1,146 @@
+package com.bomdestino.sgm.config.invalidation;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * {@link InvalidationBus} that writes the events in the *entity_change_log* table, in the same transaction as the
+ * change, and polls the rows written by the other nodes with a high-water mark.
+ * <p>
+ * The identity values are assigned at insert time, so a row can become visible after a row with a higher id. The
+ * high-water mark only passes the rows older than the settle time, the newer ones are read again and deduplicated;
+ * each poll pages through all the rows after the mark, so an unsettled burst doesn't delay the rows behind it. The
+ * mark is set when the bus is created, before its subscribers load their state, one settle time in the past, so the
+ * changes committed while the node starts are still delivered. The rows are stamped, and the settle and retention
+ * times measured, with the database clock, so the clock skew between the nodes doesn't matter.
+ */
+@Log4j2
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.invalidation", name = "transport", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcInvalidationBus extends AbstractInvalidationBus implements InitializingBean {
+
+    private static final String INSERT_EVENT = "INSERT INTO entity_change_log (entity_type, entity_id, node_id, created_date) " +
+            "VALUES (?, ?, ?, CURRENT_TIMESTAMP(6))";
+    private static final String SELECT_NOW = "SELECT CURRENT_TIMESTAMP(6)";
+    private static final String SELECT_HIGH_WATER_MARK = "SELECT COALESCE(MAX(id), 0) FROM entity_change_log WHERE created_date < ?";
+    private static final String SELECT_EVENTS = "SELECT id, entity_type, entity_id, node_id, created_date " +
+            "FROM entity_change_log WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String DELETE_EVENTS = "DELETE FROM entity_change_log WHERE created_date < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationProperties properties;
+
+    private final Set<Long> dispatchedIds = new HashSet<>();
+    private long highWaterMark;
+
+    /**
+     * Set the high-water mark on the rows already settled; the schema is created with the entity manager factory.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        highWaterMark = Objects.requireNonNull(jdbcTemplate.queryForObject(SELECT_HIGH_WATER_MARK, Long.class,
+                Timestamp.from(databaseNow().minusSeconds(properties.getSettleTimeInSeconds()))));
+    }
+
+    @Override
+    protected void beforeCommit(Collection<InvalidationEvent> events) {
+        insert(events);
+    }
+
+    @Override
+    protected void send(Collection<InvalidationEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> insert(events));
+    }
+
+    /**
+     * Read the rows written by the other nodes after the high-water mark, page by page, and deliver the ones not yet
+     * delivered to the local listeners.
+     */
+    @Scheduled(fixedDelayString = "${application.invalidation.poll-interval-in-ms:1000}")
+    public synchronized void poll() {
+        Instant settled = databaseNow().minusSeconds(properties.getSettleTimeInSeconds());
+        long settledMark = highWaterMark;
+        boolean advancing = true;
+        List<InvalidationEvent> events = new ArrayList<>();
+        long cursor = highWaterMark;
+        List<ChangeLogRow> page;
+        do {
+            page = jdbcTemplate.query(SELECT_EVENTS, ChangeLogRow::map, cursor, properties.getBatchSize());
+            for (ChangeLogRow row : page) {
+                if (dispatchedIds.add(row.id) && !getNodeId().equals(row.nodeId)) {
+                    events.add(new InvalidationEvent(row.entity, row.entityId, true));
+                }
+                advancing = advancing && row.createdDate.isBefore(settled);
+                if (advancing) {
+                    settledMark = row.id;
+                }
+                cursor = row.id;
+            }
+        } while (page.size() == properties.getBatchSize());
+        highWaterMark = settledMark;
+        dispatchedIds.removeIf(id -> id <= highWaterMark);
+        dispatch(events);
+    }
+
+    /**
+     * Delete the rows older than the retention time.
+     */
+    @Scheduled(fixedDelayString = "${application.invalidation.prune-interval-in-ms:600000}")
+    public void prune() {
+        int deleted = transactionTemplate.execute(status -> jdbcTemplate.update(DELETE_EVENTS,
+                Timestamp.from(databaseNow().minusSeconds(properties.getRetentionInMinutes() * 60L))));
+        log.debug("{} entity change-log rows have been pruned", deleted);
+    }
+
+    private void insert(Collection<InvalidationEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (InvalidationEvent event : events) {
+            rows.add(new Object[]{event.getEntity().name(), event.getEntityId(), getNodeId()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+
+    /**
+     * Get the time of the database clock, the same one that stamps the rows.
+     */
+    private Instant databaseNow() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(SELECT_NOW, Timestamp.class)).toInstant();
+    }
+
+    /**
+     * A row of the change-log table.
+     */
+    @AllArgsConstructor
+    private static class ChangeLogRow {
+
+        private final long id;
+        private final InvalidationEntity entity;
+        private final long entityId;
+        private final String nodeId;
+        private final Instant createdDate;
+
+        private static ChangeLogRow map(ResultSet rs, int rowNum) throws SQLException {
+            return new ChangeLogRow(rs.getLong(1), InvalidationEntity.valueOf(rs.getString(2)), rs.getLong(3),
+                    rs.getString(4), rs.getTimestamp(5).toInstant());
+        }
+
+    }
+
+}
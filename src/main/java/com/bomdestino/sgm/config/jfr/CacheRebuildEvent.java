@@ -0,0 +1,51 @@
+package com.bomdestino.sgm.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JFR event of an in-memory cache rebuild.
+ */
+@Name("com.bomdestino.sgm.CacheRebuild")
+@Label("Cache Rebuild")
+@Category({"SGM", "Cache"})
+@Description("A rebuild of an in-memory snapshot from the database")
+@StackTrace(false)
+public class CacheRebuildEvent extends SGMEvent {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Entries")
+    long entries;
+
+    /**
+     * Begin the event of a rebuild.
+     *
+     * @return the event, to be finished by {@link #finish(String, long)}.
+     */
+    public static CacheRebuildEvent start() {
+        CacheRebuildEvent event = new CacheRebuildEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish the event and commit it if it's enabled.
+     *
+     * @param cache   it's the name of the cache.
+     * @param entries it's the number of entries of the new snapshot.
+     */
+    public void finish(String cache, long entries) {
+        end();
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.entries = entries;
+            commit();
+        }
+    }
+
+}
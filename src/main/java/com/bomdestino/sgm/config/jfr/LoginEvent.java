@@ -0,0 +1,87 @@
+package com.bomdestino.sgm.config.jfr;
+
+import com.bomdestino.sgm.config.metrics.SGMMetrics.Outcome;
+import com.google.common.hash.Hashing;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The JFR event of a login attempt, from the credentials check to the token signing.
+ * <p>
+ * The event in progress is bound to the login thread, so the password encoder can add the BCrypt time to it. The
+ * username is only hashed when the event is committed.
+ */
+@Name("com.bomdestino.sgm.Login")
+@Label("Login")
+@Category({"SGM", "Authentication"})
+@Description("A login attempt, from the credentials check to the token signing")
+@StackTrace(false)
+public class LoginEvent extends SGMEvent {
+
+    private static final int USERNAME_HASH_LENGTH = 16;
+    private static final ThreadLocal<LoginEvent> ACTIVE = new ThreadLocal<>();
+
+    @Label("Username Hash")
+    @Description("The first hex digits of the SHA-256 of the username")
+    String usernameHash;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("BCrypt Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long bcryptTime;
+
+    /**
+     * Begin the event of a login on the current thread.
+     *
+     * @return the event, to be finished by {@link #finish(String, Outcome)}.
+     */
+    public static LoginEvent start() {
+        LoginEvent event = new LoginEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            ACTIVE.set(event);
+        }
+        return event;
+    }
+
+    /**
+     * Add the time of a password check to the login in progress on the current thread, if any.
+     *
+     * @param nanos it's the time of the password check.
+     */
+    public static void addBcryptTime(long nanos) {
+        LoginEvent event = ACTIVE.get();
+        if (event != null) {
+            event.bcryptTime += nanos;
+        }
+    }
+
+    /**
+     * Finish the event and commit it if it's enabled.
+     *
+     * @param username it's the username of the login.
+     * @param outcome  it's the outcome of the login.
+     */
+    public void finish(String username, Outcome outcome) {
+        if (ACTIVE.get() != this) {
+            return;
+        }
+        ACTIVE.remove();
+        end();
+        if (shouldCommit()) {
+            this.usernameHash = username == null ? null : Hashing.sha256()
+                    .hashString(username, StandardCharsets.UTF_8).toString().substring(0, USERNAME_HASH_LENGTH);
+            this.outcome = toValue(outcome);
+            commit();
+        }
+    }
+
+}
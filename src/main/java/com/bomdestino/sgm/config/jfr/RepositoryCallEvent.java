@@ -0,0 +1,29 @@
+package com.bomdestino.sgm.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * The JFR event of a Spring Data repository call, with the stack trace of the caller.
+ */
+@Name("com.bomdestino.sgm.RepositoryCall")
+@Label("Repository Call")
+@Category({"SGM", "Database"})
+@Description("A Spring Data repository call and the number of rows it returned")
+@Threshold("1 ms")
+public class RepositoryCallEvent extends SGMEvent {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Rows")
+    @Description("The number of elements returned, -1 for a failed call")
+    long rows;
+
+}
@@ -0,0 +1,56 @@
+package com.bomdestino.sgm.config.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emits a {@link RepositoryCallEvent} for each repository call.
+ */
+@Aspect
+@Component
+public class RepositoryEventAspect {
+
+    private static final long FAILED_CALL_ROWS = -1;
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        long rows = FAILED_CALL_ROWS;
+        try {
+            Object result = joinPoint.proceed();
+            rows = countRows(result);
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+                event.repository = interfaces.length > 0 ? interfaces[0].getSimpleName() : joinPoint.getSignature().getDeclaringTypeName();
+                event.method = joinPoint.getSignature().getName();
+                event.rows = rows;
+                event.commit();
+            }
+        }
+    }
+
+    private static long countRows(Object result) {
+        if (result == null) {
+            return 0;
+        } else if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        } else if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        } else if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.bomdestino.sgm.config.jfr;
+
+import jdk.jfr.Event;
+
+import java.util.Locale;
+
+/**
+ * Base class of the SGM JFR events.
+ * <p>
+ * The events follow the JFR pattern: they're created and begun on every call, and their fields are only computed
+ * after {@link #shouldCommit()}. When the recording is off, or the event disabled, the JIT removes the allocation and
+ * the calls are close to free, so the events are always on.
+ */
+abstract class SGMEvent extends Event {
+
+    static String toValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+}
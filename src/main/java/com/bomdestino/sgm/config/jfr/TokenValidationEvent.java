@@ -0,0 +1,63 @@
+package com.bomdestino.sgm.config.jfr;
+
+import com.bomdestino.sgm.config.metrics.SGMMetrics.Outcome;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * The JFR event of an access token validation.
+ */
+@Name("com.bomdestino.sgm.TokenValidation")
+@Label("Token Validation")
+@Category({"SGM", "Authentication"})
+@Description("An access token validation, the signature, the expiration and the user status")
+@StackTrace(false)
+@Threshold("1 ms")
+public class TokenValidationEvent extends SGMEvent {
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("User Status Cached")
+    @Description("True if the user status came from the in-memory snapshot, false if it came from the database")
+    boolean userStatusCached;
+
+    @Label("Stale")
+    @Description("True if the token roles are older than the profile roles and the token must be reissued")
+    boolean stale;
+
+    /**
+     * Begin the event of a token validation.
+     *
+     * @return the event, to be finished by {@link #finish(Outcome, boolean, BooleanSupplier)}.
+     */
+    public static TokenValidationEvent start() {
+        TokenValidationEvent event = new TokenValidationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish the event and commit it if it's enabled and above the threshold.
+     *
+     * @param outcome          it's the outcome of the validation.
+     * @param userStatusCached it's true if the user status came from memory.
+     * @param stale            it's the staleness check of the token, evaluated only if the event is committed.
+     */
+    public void finish(Outcome outcome, boolean userStatusCached, BooleanSupplier stale) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = toValue(outcome);
+            this.userStatusCached = userStatusCached;
+            this.stale = outcome == Outcome.SUCCESS && stale.getAsBoolean();
+            commit();
+        }
+    }
+
+}
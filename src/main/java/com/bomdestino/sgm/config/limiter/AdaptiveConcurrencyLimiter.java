@@ -0,0 +1,150 @@
+package com.bomdestino.sgm.config.limiter;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Learns the safe number of in-flight requests from the observed latency, with a gradient algorithm.
+ * <p>
+ * The latency of each window is compared with its long-term average: while they are close, the limit grows by its
+ * square root, the queue allowance; when the short-term latency rises above the tolerance, the limit shrinks by the
+ * same ratio, down to half of it per window. The windows where the in-flight requests never reached half of the
+ * limit don't change it, so an idle server doesn't grow an unbounded limit.
+ * <p>
+ * The admission is a single CAS on the in-flight counter. The limit is only recomputed by the thread that closes a
+ * window.
+ */
+@Log4j2
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_DRIFT_RATIO = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final LimiterProperties properties;
+    private final double[] shares = new double[LimiterPriority.values().length];
+    private final long windowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final Map<LimiterPriority, LongAdder> shed = new EnumMap<>(LimiterPriority.class);
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(LimiterProperties properties) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(properties.getWindowInMs());
+        shares[LimiterPriority.HIGH.ordinal()] = 1.0;
+        shares[LimiterPriority.NORMAL.ordinal()] = properties.getNormalPriorityShare();
+        shares[LimiterPriority.LOW.ordinal()] = properties.getLowPriorityShare();
+        for (LimiterPriority priority : LimiterPriority.values()) {
+            shed.put(priority, new LongAdder());
+        }
+    }
+
+    /**
+     * Try to admit a request, within the share of the limit of its class.
+     *
+     * @param priority it's the shedding class of the request.
+     * @return true if the request has been admitted, it must be released, or false if it has been shed.
+     */
+    public boolean tryAcquire(LimiterPriority priority) {
+        int allowed = (int) Math.max(1, limit * shares[priority.ordinal()]);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                shed.get(priority).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request and sample its latency.
+     *
+     * @param rttNanos it's the time the request took, in nanoseconds.
+     */
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        windowRttSum.add(rttNanos);
+        windowSamples.increment();
+
+        long start = windowStart.get();
+        long now = System.nanoTime();
+        if (now - start >= windowNanos && windowSamples.sum() >= properties.getMinWindowSamples()
+                && windowStart.compareAndSet(start, now)) {
+            long samples = windowSamples.sumThenReset();
+            long rttSum = windowRttSum.sumThenReset();
+            int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+            if (samples > 0) {
+                update((double) rttSum / samples, maxInFlight);
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request without sampling it, used when its latency doesn't reflect the server load.
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(double shortRtt, int maxInFlight) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) * properties.getLongRttSmoothing();
+        }
+        if (longRtt / shortRtt > LONG_RTT_DRIFT_RATIO) {
+            longRtt *= LONG_RTT_DECAY;
+        }
+        double current = limit;
+        if (maxInFlight < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, properties.getRttTolerance() * longRtt / shortRtt));
+        double estimate = current * gradient + Math.sqrt(current);
+        double smoothed = current + (estimate - current) * properties.getSmoothing();
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), smoothed));
+        log.trace("Concurrency limit {} -> {} (short rtt {} ns, long rtt {} ns)", (int) current, (int) limit,
+                (long) shortRtt, (long) longRtt);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getShed(LimiterPriority priority) {
+        return shed.get(priority).sum();
+    }
+
+}
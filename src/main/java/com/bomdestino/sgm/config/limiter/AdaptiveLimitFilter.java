@@ -0,0 +1,103 @@
+package com.bomdestino.sgm.config.limiter;
+
+import com.bomdestino.sgm.config.RejectedRequestResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Sheds the requests above the limit learned by the {@link AdaptiveConcurrencyLimiter}, with {@code 503} and
+ * *Retry-After*, before they reach the token validation and the database.
+ * <p>
+ * The async requests are released when they complete, not when the request thread returns. The rejected requests of
+ * the inner filters aren't sampled, their latency would pull the limit up.
+ */
+@Log4j2
+public class AdaptiveLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final RejectedRequestResponse rejectedRequestResponse;
+    private final String retryAfter;
+
+    public AdaptiveLimitFilter(AdaptiveConcurrencyLimiter limiter, LimiterProperties properties,
+                               RejectedRequestResponse rejectedRequestResponse) {
+        this.limiter = limiter;
+        this.rejectedRequestResponse = rejectedRequestResponse;
+        this.retryAfter = String.valueOf(properties.getRetryAfterInSeconds());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        LimiterPriority priority = LimiterPriority.of(request);
+        if (!limiter.tryAcquire(priority)) {
+            log.debug("Concurrency limit {} reached, shedding {} request {}", limiter.getLimit(), priority,
+                    request.getServletPath());
+            rejectedRequestResponse.write(response, retryAfter);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                release(response, start);
+            }
+        }
+    }
+
+    private void release(HttpServletResponse response, long start) {
+        if (response.getStatus() == HttpServletResponse.SC_SERVICE_UNAVAILABLE) {
+            limiter.releaseWithoutSample();
+        } else {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Releases an async request when its processing completes, after a timeout or an error too.
+     */
+    private class ReleaseOnComplete implements AsyncListener {
+
+        private final long start;
+
+        ReleaseOnComplete(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release((HttpServletResponse) event.getSuppliedResponse(), start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // released by onComplete
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // released by onComplete
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.bomdestino.sgm.config.limiter;
+
+import com.bomdestino.sgm.config.RejectedRequestResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the {@link AdaptiveLimitFilter} based on Spring.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.limiter", name = "enabled", havingValue = "true")
+public class LimiterConfig {
+
+    private static final int LIMIT_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 20;
+
+    /**
+     * Register the {@link AdaptiveLimitFilter} as the outermost overload filter, ahead of the bulkheads and of the
+     * Spring Security chain.
+     */
+    @Bean
+    public FilterRegistrationBean<AdaptiveLimitFilter> adaptiveLimitFilter(AdaptiveConcurrencyLimiter limiter,
+                                                                           LimiterProperties properties,
+                                                                           RejectedRequestResponse rejectedRequestResponse) {
+        FilterRegistrationBean<AdaptiveLimitFilter> registration = new FilterRegistrationBean<>(
+                new AdaptiveLimitFilter(limiter, properties, rejectedRequestResponse));
+        registration.setOrder(LIMIT_FILTER_ORDER);
+        return registration;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.bomdestino.sgm.config.limiter;
+
+import com.bomdestino.sgm.config.bulkhead.BulkheadGroup;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.http.HttpMethod;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static com.bomdestino.sgm.util.Constants.AUTHORIZATION_HEADER;
+import static com.bomdestino.sgm.util.Constants.BEARER_TOKEN;
+
+/**
+ * The shedding classes of the {@link AdaptiveConcurrencyLimiter}, the lower classes may only use a share of the limit
+ * and are shed first.
+ * <p>
+ * The class is resolved before the token validation, a request is taken as authenticated when it carries a bearer
+ * token.
+ */
+public enum LimiterPriority {
+
+    /**
+     * The authenticated citizen reads, shed last.
+     */
+    HIGH,
+
+    /**
+     * The authentication endpoints and the authenticated admin writes.
+     */
+    NORMAL,
+
+    /**
+     * The admin listings and the unauthenticated traffic, shed first.
+     */
+    LOW;
+
+    /**
+     * Resolve the shedding class of a request.
+     *
+     * @param request it's the request object injected by Spring.
+     * @return the {@link LimiterPriority} of the request.
+     */
+    public static LimiterPriority of(HttpServletRequest request) {
+        BulkheadGroup group = BulkheadGroup.of(request);
+        if (group == BulkheadGroup.AUTH) {
+            return NORMAL;
+        }
+        String authorization = request.getHeader(AUTHORIZATION_HEADER);
+        if (Strings.isBlank(authorization) || !authorization.startsWith(BEARER_TOKEN)) {
+            return LOW;
+        }
+        if (group == BulkheadGroup.CITIZEN) {
+            return HIGH;
+        }
+        return HttpMethod.GET.matches(request.getMethod()) ? LOW : NORMAL;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.bomdestino.sgm.config.limiter;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration of the {@link AdaptiveConcurrencyLimiter} based on Spring.
+ */
+@ConfigurationProperties(prefix = "application.limiter")
+@Component
+@NoArgsConstructor
+@Data
+public class LimiterProperties {
+
+    private boolean enabled = false;
+    private Integer initialLimit = 50;
+    private Integer minLimit = 10;
+    private Integer maxLimit = 500;
+
+    /**
+     * How much the short-term latency may exceed the long-term one before the limit is reduced.
+     */
+    private Double rttTolerance = 1.5;
+
+    /**
+     * Weight of each new limit estimate, lower values react slower but are more stable.
+     */
+    private Double smoothing = 0.2;
+
+    /**
+     * Weight of each window in the long-term latency average.
+     */
+    private Double longRttSmoothing = 0.05;
+
+    private Integer windowInMs = 500;
+    private Integer minWindowSamples = 20;
+
+    /**
+     * Share of the limit that the *NORMAL* and *LOW* classes may use, the *HIGH* class uses the whole limit.
+     */
+    private Double normalPriorityShare = 0.8;
+    private Double lowPriorityShare = 0.5;
+
+    private Integer retryAfterInSeconds = 1;
+
+}
@@ -0,0 +1,54 @@
+package com.bomdestino.sgm.config.metrics;
+
+import com.bomdestino.sgm.config.bulkhead.Bulkhead;
+import com.bomdestino.sgm.config.bulkhead.BulkheadRegistry;
+import com.bomdestino.sgm.config.limiter.AdaptiveConcurrencyLimiter;
+import com.bomdestino.sgm.config.limiter.LimiterPriority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Binds the saturation of the bulkheads and of the adaptive concurrency limiter, the same values of the management
+ * endpoints.
+ */
+@Component
+@AllArgsConstructor
+public class OverloadMetrics implements MeterBinder {
+
+    private static final String GROUP_TAG = "group";
+    private static final String PRIORITY_TAG = "priority";
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Bulkhead bulkhead : bulkheadRegistry.getAll()) {
+            String group = bulkhead.getGroup().name().toLowerCase(Locale.ROOT);
+            Gauge.builder("sgm.bulkhead.in.flight", bulkhead, Bulkhead::getInFlight)
+                    .tag(GROUP_TAG, group)
+                    .register(registry);
+            Gauge.builder("sgm.bulkhead.max.concurrent", bulkhead, Bulkhead::getMaxConcurrent)
+                    .tag(GROUP_TAG, group)
+                    .register(registry);
+            FunctionCounter.builder("sgm.bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                    .tag(GROUP_TAG, group)
+                    .register(registry);
+        }
+
+        Gauge.builder("sgm.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).register(registry);
+        Gauge.builder("sgm.limiter.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight).register(registry);
+        for (LimiterPriority priority : LimiterPriority.values()) {
+            FunctionCounter.builder("sgm.limiter.shed", limiter, value -> value.getShed(priority))
+                    .tag(PRIORITY_TAG, priority.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+    }
+
+}
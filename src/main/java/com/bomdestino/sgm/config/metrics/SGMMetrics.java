@@ -0,0 +1,102 @@
+package com.bomdestino.sgm.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timers of the SGM hot paths, built once so the recording doesn't look up the registry.
+ * <p>
+ * The percentiles and histograms of the *sgm* meters are configured in *management.metrics.distribution*. The
+ * repository calls are timed by the Spring Data *spring.data.repository.invocations* metric, the connection pools and
+ * the Hibernate statistics by their Spring Boot binders, once *application.metrics.hibernate-statistics* is set.
+ */
+@Component
+public class SGMMetrics {
+
+    public static final String LOGIN = "sgm.auth.login";
+    public static final String LOGIN_PHASE = "sgm.auth.login.phase";
+    public static final String TOKEN_VALIDATION = "sgm.jwt.validation";
+    public static final String CACHE_REBUILD = "sgm.cache.rebuild";
+
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String PHASE_TAG = "phase";
+    private static final String CACHE_TAG = "cache";
+
+    /**
+     * The phases of a login.
+     */
+    public enum LoginPhase {
+        LOOKUP,
+        BCRYPT,
+        TOKEN
+    }
+
+    /**
+     * The outcomes of a login or of a token validation.
+     */
+    public enum Outcome {
+        SUCCESS,
+        FAILURE,
+        EXPIRED,
+        INVALID,
+        NOT_ACTIVATED
+    }
+
+    private final MeterRegistry registry;
+    private final Map<LoginPhase, Timer> loginPhaseTimers = new EnumMap<>(LoginPhase.class);
+    private final Map<Outcome, Timer> loginTimers = new EnumMap<>(Outcome.class);
+    private final Map<Outcome, Timer> tokenValidationTimers = new EnumMap<>(Outcome.class);
+    private final Map<String, Timer> cacheRebuildTimers = new ConcurrentHashMap<>();
+
+    public SGMMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (LoginPhase phase : LoginPhase.values()) {
+            loginPhaseTimers.put(phase, Timer.builder(LOGIN_PHASE)
+                    .description("Time of each phase of a login")
+                    .tag(PHASE_TAG, tagValue(phase))
+                    .register(registry));
+        }
+        for (Outcome outcome : Outcome.values()) {
+            loginTimers.put(outcome, Timer.builder(LOGIN)
+                    .description("Time of a login, from the credentials check to the token signing")
+                    .tag(OUTCOME_TAG, tagValue(outcome))
+                    .register(registry));
+            tokenValidationTimers.put(outcome, Timer.builder(TOKEN_VALIDATION)
+                    .description("Time of an access token validation")
+                    .tag(OUTCOME_TAG, tagValue(outcome))
+                    .register(registry));
+        }
+    }
+
+    public void recordLoginPhase(LoginPhase phase, long startNanos) {
+        loginPhaseTimers.get(phase).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLogin(Outcome outcome, long startNanos) {
+        loginTimers.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenValidation(Outcome outcome, long startNanos) {
+        tokenValidationTimers.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCacheRebuild(String cache, long startNanos) {
+        cacheRebuildTimers.computeIfAbsent(cache, name -> Timer.builder(CACHE_REBUILD)
+                .description("Time of an in-memory cache rebuild")
+                .tag(CACHE_TAG, name)
+                .register(registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+}
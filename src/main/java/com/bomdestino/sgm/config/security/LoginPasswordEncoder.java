@@ -0,0 +1,42 @@
+package com.bomdestino.sgm.config.security;
+
+import com.bomdestino.sgm.config.jfr.LoginEvent;
+import com.bomdestino.sgm.config.metrics.SGMMetrics;
+import com.bomdestino.sgm.config.metrics.SGMMetrics.LoginPhase;
+import lombok.AllArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * The {@link PasswordEncoder} of the login authentication provider, the password checks are timed as the *bcrypt*
+ * phase of the login and added to its {@link LoginEvent}.
+ * <p>
+ * Only the login goes through it, the other password checks, as the password history, use the plain encoder.
+ */
+@AllArgsConstructor
+class LoginPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder encoder;
+    private final SGMMetrics metrics;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            return encoder.matches(rawPassword, encodedPassword);
+        } finally {
+            metrics.recordLoginPhase(LoginPhase.BCRYPT, start);
+            LoginEvent.addBcryptTime(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+}
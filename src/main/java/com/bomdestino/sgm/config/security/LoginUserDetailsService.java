@@ -0,0 +1,32 @@
+package com.bomdestino.sgm.config.security;
+
+import com.bomdestino.sgm.config.metrics.SGMMetrics;
+import com.bomdestino.sgm.config.metrics.SGMMetrics.LoginPhase;
+import lombok.AllArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * The {@link UserDetailsService} of the login authentication provider, the user lookups are timed as the *lookup*
+ * phase of the login.
+ * <p>
+ * Only the login goes through it, the other lookups, as the reissue of a stale access token, use the plain service.
+ */
+@AllArgsConstructor
+class LoginUserDetailsService implements UserDetailsService {
+
+    private final UserDetailsService detailsService;
+    private final SGMMetrics metrics;
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        long start = System.nanoTime();
+        try {
+            return detailsService.loadUserByUsername(username);
+        } finally {
+            metrics.recordLoginPhase(LoginPhase.LOOKUP, start);
+        }
+    }
+
+}
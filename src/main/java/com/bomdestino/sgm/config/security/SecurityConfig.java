@@ -1,11 +1,13 @@
 package com.bomdestino.sgm.config.security;
 
+import com.bomdestino.sgm.config.metrics.SGMMetrics;
 import com.bomdestino.sgm.config.security.auth.SGMUserDetailsService;
 import com.bomdestino.sgm.config.security.jwt.JWTConfigurer;
 import com.bomdestino.sgm.config.security.jwt.TokenProvider;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -30,12 +32,14 @@ import static com.bomdestino.sgm.util.EndpointConstants.REFRESH_AUTHENTICATE_URL
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(prePostEnabled = true, securedEnabled = true)
 @Import(SecurityProblemSupport.class)
+@DependsOn("profileRolesMigration")
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final TokenProvider tokenProvider;
     private final PasswordEncoder passwordEncoder;
     private final SGMUserDetailsService detailsService;
     private final SecurityProblemSupport problemSupport;
+    private final SGMMetrics metrics;
 
     @Override
     public void configure(WebSecurity web) {
@@ -91,8 +95,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Bean
     public DaoAuthenticationProvider daoAuthenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-        provider.setPasswordEncoder(passwordEncoder);
-        provider.setUserDetailsService(detailsService);
+        provider.setPasswordEncoder(new LoginPasswordEncoder(passwordEncoder, metrics));
+        provider.setUserDetailsService(new LoginUserDetailsService(detailsService, metrics));
         return provider;
     }
 
@@ -0,0 +1,125 @@
+package com.bomdestino.sgm.config.security.auth;
+
+import com.bomdestino.sgm.config.invalidation.InvalidationBus;
+import com.bomdestino.sgm.config.invalidation.InvalidationEntity;
+import com.bomdestino.sgm.config.invalidation.InvalidationEvent;
+import com.bomdestino.sgm.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory table with the current roles version of each profile, indexed by the profile id.
+ * <p>
+ * It's used to detect the access tokens issued before a change of the profile roles without any database access.
+ * The changes made by the other nodes are received from the {@link InvalidationBus}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileVersionRegistry implements InitializingBean {
+
+    public static final long UNKNOWN_VERSION = -1L;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ProfileRepository profileRepository;
+    private final InvalidationBus invalidationBus;
+
+    /**
+     * The versions are stored incremented by one, so the zero filled slots mean an unknown profile.
+     */
+    private volatile AtomicLongArray versions = new AtomicLongArray(INITIAL_CAPACITY);
+
+    /**
+     * Load the roles version of all profiles from the database and listen to the remote profile changes.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        profileRepository.findAllRolesVersions().forEach(profile -> update(profile.getId(), profile.getRolesVersion()));
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Get the current roles version of a profile.
+     *
+     * @param profileId it's the id of the profile.
+     * @return the current roles version or {@link #UNKNOWN_VERSION} if the profile isn't registered.
+     */
+    public long getVersion(long profileId) {
+        AtomicLongArray current = versions;
+        if (profileId < 0 || profileId >= current.length()) {
+            return UNKNOWN_VERSION;
+        }
+        return current.get((int) profileId) - 1;
+    }
+
+    /**
+     * Register the roles version of a profile after the current transaction commits, or immediately when there's no
+     * transaction.
+     *
+     * @param profileId it's the id of the profile.
+     * @param version   it's the new roles version.
+     */
+    public void updateAfterCommit(long profileId, long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(profileId, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(profileId, version);
+            }
+        });
+    }
+
+    /**
+     * Register the roles version of a profile, an older version never replaces a newer one.
+     *
+     * @param profileId it's the id of the profile.
+     * @param version   it's the new roles version.
+     */
+    public void update(long profileId, long version) {
+        AtomicLongArray current = ensureCapacity(profileId);
+        int index = (int) profileId;
+        current.accumulateAndGet(index, version + 1, Math::max);
+        if (current != versions) {
+            update(profileId, version);
+        }
+    }
+
+    private void onInvalidation(InvalidationEvent event) {
+        if (event.isRemote() && event.getEntity() == InvalidationEntity.PROFILE) {
+            profileRepository.findRolesVersionById(event.getEntityId())
+                    .ifPresent(version -> update(event.getEntityId(), version));
+        }
+    }
+
+    private AtomicLongArray ensureCapacity(long profileId) {
+        AtomicLongArray current = versions;
+        if (profileId < current.length()) {
+            return current;
+        }
+        synchronized (this) {
+            current = versions;
+            if (profileId >= current.length()) {
+                int length = current.length();
+                while (profileId >= length) {
+                    length <<= 1;
+                }
+                AtomicLongArray grown = new AtomicLongArray(length);
+                for (int i = 0; i < current.length(); i++) {
+                    grown.set(i, current.get(i));
+                }
+                versions = grown;
+                current = grown;
+            }
+            return current;
+        }
+    }
+
+}
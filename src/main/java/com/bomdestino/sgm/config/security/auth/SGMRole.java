@@ -2,28 +2,35 @@ package com.bomdestino.sgm.config.security.auth;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * This provides RBAC (Role-based access control) support for the system.
+ * <p>
+ * Each role owns a fixed bit, used to persist a set of roles as a single integer mask. The bits must never be
+ * reassigned, new roles take the next free bit.
  */
 @Getter
 @AllArgsConstructor
 public enum SGMRole {
 
-    AUDITOR,
-    PROFILE_MANAGEMENT,
-    USER_MANAGEMENT,
-    SERVICE_MANAGEMENT,
+    AUDITOR(1),
+    PROFILE_MANAGEMENT(1 << 1),
+    USER_MANAGEMENT(1 << 2),
+    SERVICE_MANAGEMENT(1 << 3),
 
-    VIEW_CITIZEN_SERVICES,
-    VIEW_HEALTH_SERVICES;
+    VIEW_CITIZEN_SERVICES(1 << 4),
+    VIEW_HEALTH_SERVICES(1 << 5);
+
+    private static final SGMRole[] ROLES = values();
+    private static final int ALL_ROLES_MASK = Arrays.stream(ROLES).mapToInt(SGMRole::getBit).reduce(0, (a, b) -> a | b);
+    private static final List<Set<GrantedAuthority>> AUTHORITIES_BY_MASK = buildAuthoritiesByMask();
+
+    private final int bit;
 
     public SimpleGrantedAuthority getGrantedAuthority() {
         return new SimpleGrantedAuthority("ROLE_" + this.name());
@@ -34,4 +41,56 @@ public enum SGMRole {
                 .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
+    /**
+     * Convert a set of roles to its mask.
+     *
+     * @param roles it's the roles to be converted, null is handled as an empty set.
+     * @return the mask with the bit of each role set.
+     */
+    public static int toMask(Collection<SGMRole> roles) {
+        int mask = 0;
+        if (Objects.nonNull(roles)) {
+            for (SGMRole role : roles) {
+                mask |= role.bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Convert a mask to a new mutable set of roles, the unknown bits are ignored.
+     *
+     * @param mask it's the mask to be converted.
+     * @return a set with the roles present in the mask.
+     */
+    public static Set<SGMRole> fromMask(int mask) {
+        Set<SGMRole> roles = EnumSet.noneOf(SGMRole.class);
+        for (SGMRole role : ROLES) {
+            if ((mask & role.bit) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * Get the shared, immutable, authorities of a mask.
+     *
+     * @param mask it's the roles mask, the unknown bits are ignored.
+     * @return the precomputed authorities of the mask.
+     */
+    public static Set<GrantedAuthority> getGrantedAuthorities(int mask) {
+        return AUTHORITIES_BY_MASK.get(mask & ALL_ROLES_MASK);
+    }
+
+    private static List<Set<GrantedAuthority>> buildAuthoritiesByMask() {
+        List<Set<GrantedAuthority>> authoritiesByMask = new ArrayList<>(ALL_ROLES_MASK + 1);
+        for (int mask = 0; mask <= ALL_ROLES_MASK; mask++) {
+            authoritiesByMask.add(Collections.unmodifiableSet(fromMask(mask).stream()
+                    .map(SGMRole::getGrantedAuthority)
+                    .collect(Collectors.toCollection(LinkedHashSet::new))));
+        }
+        return Collections.unmodifiableList(authoritiesByMask);
+    }
+
 }
@@ -6,7 +6,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Authenticate a user from the database.
@@ -14,16 +13,25 @@ import java.util.stream.Collectors;
 public class SGMUserDetails implements UserDetails {
 
     private final User user;
+    private final String password;
+    private final Long profileId;
+    private final long rolesVersion;
     private final Set<? extends GrantedAuthority> grantedAuthorities;
 
     public SGMUserDetails(User user) {
         this.user = user;
-        grantedAuthorities = user
-                .getProfile()
-                .getRoles()
-                .stream()
-                .map(SGMRole::getGrantedAuthority)
-                .collect(Collectors.toSet());
+        this.password = user.getPassword();
+        this.profileId = user.getProfile().getId();
+        this.rolesVersion = user.getProfile().getRolesVersion();
+        grantedAuthorities = SGMRole.getGrantedAuthorities(SGMRole.toMask(user.getProfile().getRoles()));
+    }
+
+    public Long getProfileId() {
+        return profileId;
+    }
+
+    public long getRolesVersion() {
+        return rolesVersion;
     }
 
     @Override
@@ -33,7 +41,7 @@ public class SGMUserDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
@@ -1,5 +1,8 @@
 package com.bomdestino.sgm.config.security.jwt;
 
+import com.bomdestino.sgm.config.timing.ServerTiming;
+import com.bomdestino.sgm.config.timing.ServerTimingPhase;
+import io.jsonwebtoken.Claims;
 import lombok.AllArgsConstructor;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.security.core.Authentication;
@@ -11,6 +14,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 
 import static com.bomdestino.sgm.util.EndpointConstants.AUTHENTICATE_URL;
 
@@ -27,13 +31,39 @@ public class JWTFilter extends OncePerRequestFilter {
     public void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         if (!request.getServletPath().contains(AUTHENTICATE_URL)) {
-            String accessToken = tokenProvider.resolveToken(request);
-            if (Strings.isNotBlank(accessToken) && tokenProvider.validateAccessToken(accessToken, response)) {
-                Authentication authentication = tokenProvider.getAuthentication(accessToken);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            ServerTimingPhase previous = ServerTiming.enter(ServerTimingPhase.JWT);
+            try {
+                authenticate(request, response);
+            } finally {
+                ServerTiming.exit(previous);
             }
         }
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * The claims verified by the validation are reused, only a reissued token is parsed again.
+     */
+    private void authenticate(HttpServletRequest request, HttpServletResponse response) {
+        String accessToken = tokenProvider.resolveToken(request);
+        if (Strings.isBlank(accessToken)) {
+            return;
+        }
+        Optional<Claims> claims = tokenProvider.validateAccessToken(accessToken, response);
+        if (claims.isEmpty()) {
+            return;
+        }
+        Authentication authentication;
+        if (tokenProvider.isStaleAccessToken(claims.get())) {
+            String reissued = tokenProvider.reissueAccessToken(claims.get(), response);
+            if (Strings.isBlank(reissued)) {
+                return;
+            }
+            authentication = tokenProvider.getAuthentication(reissued);
+        } else {
+            authentication = tokenProvider.getAuthentication(claims.get(), accessToken);
+        }
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
 }
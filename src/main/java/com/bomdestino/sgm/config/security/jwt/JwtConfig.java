@@ -21,6 +21,12 @@ public class JwtConfig {
     private Integer accessTokenExpirationInMinutes;
     private Integer refreshTokenExpirationInMinutes;
 
+    /**
+     * When true, an access token issued before a change of the profile roles is silently replaced, otherwise it's
+     * rejected.
+     */
+    private boolean reissueStaleTokens = true;
+
     public String getAuthorizationHeader() {
         return HttpHeaders.AUTHORIZATION;
     }
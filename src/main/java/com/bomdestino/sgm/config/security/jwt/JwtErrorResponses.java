@@ -0,0 +1,104 @@
+package com.bomdestino.sgm.config.security.jwt;
+
+import com.bomdestino.sgm.util.Translator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.bomdestino.sgm.util.Constants.DETAIL_KEY;
+import static com.bomdestino.sgm.util.Constants.ERROR_KEY;
+import static com.bomdestino.sgm.util.TranslateConstants.*;
+
+/**
+ * The error responses of the JWT filter path, rendered once at startup and written directly to the response.
+ * <p>
+ * The messages are translated to the system language, the same one used by the {@link Translator}.
+ */
+@Component
+public class JwtErrorResponses {
+
+    /**
+     * The errors of the JWT filter path, with their status and message key.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum JwtError {
+
+        EXPIRED(HttpServletResponse.SC_FORBIDDEN, ACCOUNT_SESSION_EXPIRED),
+        INVALID(HttpServletResponse.SC_UNAUTHORIZED, ACCESS_DENIED_MESSAGE),
+        NOT_ACTIVATED(HttpServletResponse.SC_UNAUTHORIZED, USER_NOT_ACTIVATED),
+        REFRESH_EXPIRED(HttpServletResponse.SC_UNAUTHORIZED, ACCOUNT_SESSION_EXPIRED),
+        FORBIDDEN(HttpServletResponse.SC_FORBIDDEN, ACCESS_DENIED_MESSAGE);
+
+        private final int status;
+        private final String messageKey;
+
+    }
+
+    private final Map<JwtError, String> messages = new EnumMap<>(JwtError.class);
+    private final Map<JwtError, byte[]> bodies = new EnumMap<>(JwtError.class);
+    private final String writeFailureMessage;
+
+    public JwtErrorResponses(Translator translator, ObjectMapper objectMapper) {
+        for (JwtError error : JwtError.values()) {
+            String message = translator.translate(error.getMessageKey());
+            messages.put(error, message);
+            bodies.put(error, render(objectMapper, message));
+        }
+        writeFailureMessage = translator.translate(INVALID_REFRESH_TOKEN);
+    }
+
+    /**
+     * Write the pre-rendered error in the response.
+     *
+     * @param response it's the response object injected by Spring.
+     * @param error    it's the error to be written.
+     * @throws BadCredentialsException if the response can't be written.
+     */
+    public void write(HttpServletResponse response, JwtError error) {
+        byte[] body = bodies.get(error);
+        response.setHeader(ERROR_KEY, messages.get(error));
+        response.setStatus(error.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        try {
+            response.getOutputStream().write(body);
+        } catch (IOException e) {
+            throw new BadCredentialsException(writeFailureMessage);
+        }
+    }
+
+    /**
+     * Get the translated message of the error, sent in the *error* header.
+     */
+    public String getMessage(JwtError error) {
+        return messages.get(error);
+    }
+
+    /**
+     * Get the pre-rendered JSON body of the error, it must not be modified.
+     */
+    public byte[] getBody(JwtError error) {
+        return bodies.get(error);
+    }
+
+    private static byte[] render(ObjectMapper objectMapper, String message) {
+        try {
+            return objectMapper.writeValueAsBytes(Collections.singletonMap(DETAIL_KEY, message));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.bomdestino.sgm.config.security.jwt;
+
+import com.bomdestino.sgm.config.jfr.TokenValidationEvent;
+import com.bomdestino.sgm.config.metrics.SGMMetrics.Outcome;
+import com.bomdestino.sgm.config.security.jwt.JwtErrorResponses.JwtError;
+import com.bomdestino.sgm.service.CitizenCatalogService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.AllArgsConstructor;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.bomdestino.sgm.util.Constants.AUTHORIZATION_HEADER;
+import static com.bomdestino.sgm.util.Constants.BEARER_TOKEN;
+import static com.bomdestino.sgm.util.Constants.ERROR_KEY;
+
+/**
+ * The reactive counterpart of the {@link JWTFilter}, for the citizen catalog routes.
+ * <p>
+ * The token is validated on the event loop: the signature and expiration are checked in memory, the deactivated users
+ * come from the {@link CitizenCatalogService} snapshot and the roles version from the profile registry. Only a stale
+ * token goes to the database, on the bounded elastic scheduler, to be reissued with the current roles.
+ */
+@AllArgsConstructor
+@Component
+@ConditionalOnProperty(name = "application.reactive-catalog.enabled", havingValue = "true")
+public class ReactiveJwtFilter {
+
+    /**
+     * The request attribute holding the {@link Authentication} of the token.
+     */
+    public static final String AUTHENTICATION_ATTRIBUTE = ReactiveJwtFilter.class.getName() + ".authentication";
+
+    private final JwtConfig jwtConfig;
+    private final TokenProvider tokenProvider;
+    private final JwtErrorResponses jwtErrorResponses;
+    private final CitizenCatalogService citizenCatalogService;
+
+    /**
+     * Create a filter that requires a valid access token with any of the authorities.
+     *
+     * @param authorities it's the accepted authorities, none to accept any authenticated user.
+     * @return the {@link HandlerFilterFunction} to be applied on the routes.
+     */
+    public HandlerFilterFunction<ServerResponse, ServerResponse> requireAnyAuthority(String... authorities) {
+        Set<String> accepted = authorities.length == 0 ? Collections.emptySet() : new HashSet<>(Arrays.asList(authorities));
+        return (request, next) -> {
+            String token = resolveToken(request);
+            if (Strings.isBlank(token)) {
+                return error(JwtError.INVALID);
+            }
+
+            TokenValidationEvent event = TokenValidationEvent.start();
+            Claims claims;
+            try {
+                claims = tokenProvider.resolveClaims(token);
+            } catch (ExpiredJwtException e) {
+                event.finish(Outcome.EXPIRED, true, () -> false);
+                return error(JwtError.EXPIRED);
+            } catch (JwtException | IllegalArgumentException e) {
+                event.finish(Outcome.INVALID, true, () -> false);
+                return error(JwtError.INVALID);
+            }
+            if (citizenCatalogService.isDeactivated(claims.getSubject())) {
+                event.finish(Outcome.NOT_ACTIVATED, true, () -> false);
+                return error(JwtError.NOT_ACTIVATED);
+            }
+            event.finish(Outcome.SUCCESS, true, () -> tokenProvider.isStaleAccessToken(claims));
+
+            if (!tokenProvider.isStaleAccessToken(claims)) {
+                return authorize(request, next, tokenProvider.getAuthentication(claims, token), accepted);
+            }
+            if (!jwtConfig.isReissueStaleTokens()) {
+                return error(JwtError.INVALID);
+            }
+            return Mono.fromCallable(() -> tokenProvider.reissueAccessToken(claims))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(reissued -> {
+                        request.exchange().getResponse().getHeaders().set(AUTHORIZATION_HEADER, BEARER_TOKEN + reissued);
+                        return authorize(request, next, tokenProvider.getAuthentication(reissued), accepted);
+                    });
+        };
+    }
+
+    private Mono<ServerResponse> authorize(ServerRequest request, HandlerFunction<ServerResponse> next,
+                                           Authentication authentication, Set<String> accepted) {
+        if (!accepted.isEmpty() && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .noneMatch(accepted::contains)) {
+            return error(JwtError.FORBIDDEN);
+        }
+        request.attributes().put(AUTHENTICATION_ATTRIBUTE, authentication);
+        return next.handle(request);
+    }
+
+    private Mono<ServerResponse> error(JwtError error) {
+        return ServerResponse.status(error.getStatus())
+                .header(ERROR_KEY, jwtErrorResponses.getMessage(error))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(jwtErrorResponses.getBody(error));
+    }
+
+    private static String resolveToken(ServerRequest request) {
+        String bearerToken = request.headers().firstHeader(AUTHORIZATION_HEADER);
+        if (Strings.isNotBlank(bearerToken) && bearerToken.startsWith(BEARER_TOKEN)) {
+            return bearerToken.substring(BEARER_TOKEN.length());
+        }
+        return null;
+    }
+
+}
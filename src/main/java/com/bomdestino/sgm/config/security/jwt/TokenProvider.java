@@ -1,13 +1,17 @@
 package com.bomdestino.sgm.config.security.jwt;
 
+import com.bomdestino.sgm.config.jfr.TokenValidationEvent;
+import com.bomdestino.sgm.config.metrics.SGMMetrics;
+import com.bomdestino.sgm.config.metrics.SGMMetrics.Outcome;
+import com.bomdestino.sgm.config.security.auth.ProfileVersionRegistry;
+import com.bomdestino.sgm.config.security.auth.SGMUserDetails;
 import com.bomdestino.sgm.config.security.auth.SGMUserDetailsService;
+import com.bomdestino.sgm.config.security.jwt.JwtErrorResponses.JwtError;
+import com.bomdestino.sgm.config.timing.ServerTiming;
+import com.bomdestino.sgm.config.timing.ServerTimingPhase;
 import com.bomdestino.sgm.domain.User;
-import com.bomdestino.sgm.exception.exceptions.ExpiredCredentialsException;
 import com.bomdestino.sgm.exception.exceptions.NotFoundException;
-import com.bomdestino.sgm.exception.exceptions.UserNotActivatedException;
 import com.bomdestino.sgm.service.UserService;
-import com.bomdestino.sgm.util.Translator;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -15,24 +19,19 @@ import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.http.MediaType;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
 import java.security.Key;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.bomdestino.sgm.util.Constants.*;
-import static com.bomdestino.sgm.util.TranslateConstants.*;
 
 /**
  * Component used to handle the Spring Security authentication process.
@@ -44,9 +43,11 @@ public class TokenProvider implements InitializingBean {
 
     private Key key;
     private final JwtConfig jwtConfig;
-    private final Translator translator;
+    private final JwtErrorResponses jwtErrorResponses;
     private final UserService userService;
     private final SGMUserDetailsService userDetailsService;
+    private final ProfileVersionRegistry profileVersionRegistry;
+    private final SGMMetrics metrics;
 
     /**
      * Configure the key from a base 64 secret.
@@ -64,12 +65,15 @@ public class TokenProvider implements InitializingBean {
      * @return the user token that has been created.
      */
     public String createAccessToken(Authentication authentication) {
+        Date validity = new Date(System.currentTimeMillis() + jwtConfig.getAccessTokenExpirationInMinutes() * 60 * 1000);
+        if (authentication.getPrincipal() instanceof SGMUserDetails) {
+            return buildAccessToken((SGMUserDetails) authentication.getPrincipal(), validity);
+        }
+
         String authoritiesAsString = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        Date validity = new Date(System.currentTimeMillis() + jwtConfig.getAccessTokenExpirationInMinutes() * 60 * 1000);
-
         return Jwts.builder()
                 .setSubject(authentication.getName())
                 .claim(AUTHORITIES_KEY, authoritiesAsString)
@@ -86,20 +90,56 @@ public class TokenProvider implements InitializingBean {
      */
     public String createAccessToken(String refreshToken) {
         Claims claims = resolveClaims(refreshToken);
-        UserDetails user = userDetailsService.loadUserByUsername(claims.getSubject());
+        SGMUserDetails user = (SGMUserDetails) userDetailsService.loadUserByUsername(claims.getSubject());
+        Date validity = new Date(System.currentTimeMillis() + jwtConfig.getAccessTokenExpirationInMinutes() * 60 * 1000);
+        return buildAccessToken(user, validity);
+    }
 
-        String authorities = user.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+    /**
+     * Verify if the access token has been issued before the last change of the profile roles.
+     * <p>
+     * It only reads the in-memory {@link ProfileVersionRegistry}, the tokens without the version claims are never
+     * stale.
+     *
+     * @param claims it's the claims of the access token, already validated.
+     * @return true if the token roles are outdated or false otherwise.
+     */
+    public boolean isStaleAccessToken(Claims claims) {
+        Long profileId = claims.get(PROFILE_ID_KEY, Long.class);
+        Long rolesVersion = claims.get(ROLES_VERSION_KEY, Long.class);
+        if (Objects.isNull(profileId) || Objects.isNull(rolesVersion)) {
+            return false;
+        }
+        return profileVersionRegistry.getVersion(profileId) > rolesVersion;
+    }
 
-        Date validity = new Date(System.currentTimeMillis() + jwtConfig.getAccessTokenExpirationInMinutes() * 60 * 1000);
+    /**
+     * Replace a stale access token by a new one, with the current roles and the same expiration, and send it in the
+     * *Authorization* response header. When the reissue is disabled, the token is rejected.
+     *
+     * @param claims   it's the claims of the stale access token, already validated.
+     * @param response it's the response object injected by Spring.
+     * @return the new access token or null if the stale token has been rejected.
+     */
+    public String reissueAccessToken(Claims claims, HttpServletResponse response) {
+        if (!jwtConfig.isReissueStaleTokens()) {
+            jwtErrorResponses.write(response, JwtError.INVALID);
+            return null;
+        }
+        String accessToken = reissueAccessToken(claims);
+        response.setHeader(AUTHORIZATION_HEADER, BEARER_TOKEN + accessToken);
+        return accessToken;
+    }
 
-        return Jwts.builder()
-                .setSubject(user.getUsername())
-                .claim(AUTHORITIES_KEY, authorities)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .setExpiration(validity)
-                .compact();
+    /**
+     * Build a new access token with the current roles and the same expiration of a stale one.
+     *
+     * @param claims it's the claims of the stale access token.
+     * @return the new access token.
+     */
+    public String reissueAccessToken(Claims claims) {
+        SGMUserDetails user = (SGMUserDetails) userDetailsService.loadUserByUsername(claims.getSubject());
+        return buildAccessToken(user, claims.getExpiration());
     }
 
     /**
@@ -125,8 +165,17 @@ public class TokenProvider implements InitializingBean {
      * @return the {@link Authentication} created by the Spring Security.
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = resolveClaims(token);
+        return getAuthentication(resolveClaims(token), token);
+    }
 
+    /**
+     * Authenticate the account from the claims of its token.
+     *
+     * @param claims it's the claims of the user token, already validated.
+     * @param token  it's the user token.
+     * @return the {@link Authentication} created by the Spring Security.
+     */
+    public Authentication getAuthentication(Claims claims, String token) {
         Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
                         .map(SimpleGrantedAuthority::new)
@@ -136,23 +185,42 @@ public class TokenProvider implements InitializingBean {
     }
 
     /**
-     * Validate the token.
+     * Validate the token, its signature is verified once and the claims are returned to be reused.
      *
      * @param authToken it's the token to be validated.
      * @param response  it's the response object injected by Spring.
-     * @return true if the access token is valid or false if the token is invalid.
+     * @return the {@link Claims} of the access token if it's valid or empty if the token is invalid.
      */
-    public boolean validateAccessToken(String authToken, HttpServletResponse response) {
+    public Optional<Claims> validateAccessToken(String authToken, HttpServletResponse response) {
+        long start = System.nanoTime();
+        TokenValidationEvent event = TokenValidationEvent.start();
+        Outcome outcome = Outcome.INVALID;
+        Claims claims = null;
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(authToken);
-            Claims claims = resolveClaims(authToken);
-            return verifyActivatedUser(userService.getUserByUsername(claims.getSubject()), response);
+            claims = resolveClaims(authToken);
+            boolean activated = verifyActivatedUser(getUserStatus(claims.getSubject()), response);
+            outcome = activated ? Outcome.SUCCESS : Outcome.NOT_ACTIVATED;
+            return activated ? Optional.of(claims) : Optional.empty();
         } catch (ExpiredJwtException exc) {
-            exceptionHandler(response, new ExpiredCredentialsException(translator.translate(ACCOUNT_SESSION_EXPIRED)), HttpServletResponse.SC_FORBIDDEN);
-            return false;
+            jwtErrorResponses.write(response, JwtError.EXPIRED);
+            outcome = Outcome.EXPIRED;
+            return Optional.empty();
         } catch (JwtException | IllegalArgumentException | NotFoundException exc) {
-            exceptionHandler(response, new BadCredentialsException(translator.translate(ACCESS_DENIED_MESSAGE)), HttpServletResponse.SC_UNAUTHORIZED);
-            return false;
+            jwtErrorResponses.write(response, JwtError.INVALID);
+            return Optional.empty();
+        } finally {
+            metrics.recordTokenValidation(outcome, start);
+            Claims validated = claims;
+            event.finish(outcome, false, () -> isStaleAccessToken(validated));
+        }
+    }
+
+    private User getUserStatus(String username) {
+        ServerTimingPhase previous = ServerTiming.enter(ServerTimingPhase.USER_STATUS);
+        try {
+            return userService.getUserByUsername(username);
+        } finally {
+            ServerTiming.exit(previous);
         }
     }
 
@@ -168,7 +236,7 @@ public class TokenProvider implements InitializingBean {
             Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(authToken);
             return true;
         } catch (ExpiredJwtException exc) {
-            exceptionHandler(response, new ExpiredCredentialsException(translator.translate(ACCOUNT_SESSION_EXPIRED)), HttpServletResponse.SC_UNAUTHORIZED);
+            jwtErrorResponses.write(response, JwtError.REFRESH_EXPIRED);
             return false;
         }
     }
@@ -182,7 +250,7 @@ public class TokenProvider implements InitializingBean {
      */
     public boolean verifyActivatedUser(User user, HttpServletResponse response) {
         if (Boolean.FALSE.equals(user.isActivated())) {
-            exceptionHandler(response, new UserNotActivatedException(translator.translate(USER_NOT_ACTIVATED)), HttpServletResponse.SC_UNAUTHORIZED);
+            jwtErrorResponses.write(response, JwtError.NOT_ACTIVATED);
             return false;
         }
         return true;
@@ -203,32 +271,36 @@ public class TokenProvider implements InitializingBean {
     }
 
     /**
-     * Wrhite the exception in the response object.
+     * Build an access token with the user authorities and the profile roles version.
      *
-     * @param response  it's the response object injected by Spring.
-     * @param exception it's the exception to be mapped in the response object.
-     * @param status    it's the error status code to be mapped in the response object.
+     * @param user     it's the user that owns the token.
+     * @param validity it's the token expiration date.
+     * @return the access token that has been created.
      */
-    public void exceptionHandler(HttpServletResponse response, Exception exception, int status) {
-        try {
-            response.setHeader(ERROR_KEY, exception.getMessage());
-            response.setStatus(status);
-            Map<String, String> error = new HashMap<>();
-            error.put(DETAIL_KEY, exception.getMessage());
-            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            new ObjectMapper().writeValue(response.getOutputStream(), error);
-        } catch (IOException ioException) {
-            throw new BadCredentialsException(translator.translate(INVALID_REFRESH_TOKEN));
-        }
+    private String buildAccessToken(SGMUserDetails user, Date validity) {
+        String authorities = user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim(AUTHORITIES_KEY, authorities)
+                .claim(PROFILE_ID_KEY, user.getProfileId())
+                .claim(ROLES_VERSION_KEY, user.getRolesVersion())
+                .signWith(key, SignatureAlgorithm.HS512)
+                .setExpiration(validity)
+                .compact();
     }
 
     /**
-     * Read and map the token to {@link Claims}.
+     * Read and map the token to {@link Claims}, it doesn't access the database.
      *
      * @param token token to be mapped.
      * @return the token {@link Claims}
+     * @throws ExpiredJwtException if the token is expired.
+     * @throws JwtException        if the token is invalid.
      */
-    private Claims resolveClaims(String token) {
+    public Claims resolveClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(key)
                 .build()
@@ -0,0 +1,182 @@
+package com.bomdestino.sgm.config.security.password;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An off-heap Bloom filter stored in a memory-mapped file, keyed by SHA-1 digests.
+ * <p>
+ * The file layout is: magic (8 bytes), version (int), hash count (int), bit count (long) and the bits. The file is
+ * mapped in 1 GiB segments, so it isn't limited to the 2 GiB of a single {@link MappedByteBuffer}. The k probe
+ * positions are derived from the digest with double hashing.
+ */
+public final class BloomFilterFile {
+
+    static final long MAGIC = 0x53474D424C4F4F4DL;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 24;
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final MappedByteBuffer[] segments;
+    private final int hashCount;
+    private final long bitCount;
+
+    private BloomFilterFile(MappedByteBuffer[] segments, int hashCount, long bitCount) {
+        this.segments = segments;
+        this.hashCount = hashCount;
+        this.bitCount = bitCount;
+    }
+
+    /**
+     * Map an existing filter file for reading.
+     *
+     * @param path it's the path of the filter file.
+     * @return the mapped filter.
+     * @throws IOException if the file can't be read or isn't a filter file.
+     */
+    public static BloomFilterFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a breached passwords filter file: " + path);
+            }
+            MappedByteBuffer[] segments = map(channel, FileChannel.MapMode.READ_ONLY, channel.size());
+            ByteBuffer header = segments[0];
+            if (header.getLong(0) != MAGIC || header.getInt(8) != VERSION) {
+                throw new IOException("Not a breached passwords filter file: " + path);
+            }
+            int hashCount = header.getInt(12);
+            long bitCount = header.getLong(16);
+            if (channel.size() < HEADER_SIZE + byteCount(bitCount)) {
+                throw new IOException("Truncated breached passwords filter file: " + path);
+            }
+            return new BloomFilterFile(segments, hashCount, bitCount);
+        }
+    }
+
+    /**
+     * Create an empty filter file, mapped for writing.
+     *
+     * @param path      it's the path of the filter file, it's replaced if it exists.
+     * @param bitCount  it's the size of the filter in bits.
+     * @param hashCount it's the number of probes per digest.
+     * @return the mapped filter.
+     * @throws IOException if the file can't be written.
+     */
+    public static BloomFilterFile create(Path path, long bitCount, int hashCount) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer[] segments = map(channel, FileChannel.MapMode.READ_WRITE, HEADER_SIZE + byteCount(bitCount));
+            ByteBuffer header = segments[0];
+            header.putLong(0, MAGIC);
+            header.putInt(8, VERSION);
+            header.putInt(12, hashCount);
+            header.putLong(16, bitCount);
+            return new BloomFilterFile(segments, hashCount, bitCount);
+        }
+    }
+
+    /**
+     * Get the optimal size of a filter.
+     *
+     * @param expectedInsertions it's the number of digests to be added.
+     * @param falsePositiveRate  it's the accepted false positive rate.
+     * @return the size of the filter in bits.
+     */
+    public static long optimalBitCount(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        return Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    }
+
+    /**
+     * Get the optimal number of probes of a filter.
+     *
+     * @param expectedInsertions it's the number of digests to be added.
+     * @param bitCount           it's the size of the filter in bits.
+     * @return the number of probes per digest.
+     */
+    public static int optimalHashCount(long expectedInsertions, long bitCount) {
+        return Math.max(1, (int) Math.round((double) bitCount / Math.max(1, expectedInsertions) * Math.log(2)));
+    }
+
+    /**
+     * Verify if a digest might have been added, with k probes and no allocation.
+     *
+     * @param sha1 it's the SHA-1 digest.
+     * @return false if the digest has certainly not been added or true otherwise.
+     */
+    public boolean mightContain(byte[] sha1) {
+        long h1 = getLong(sha1, 0);
+        long h2 = getLong(sha1, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long position = HEADER_SIZE + (bit >>> 3);
+            if ((segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK)) & (1 << (bit & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add a digest to the filter, it's only supported by the filters opened with {@link #create}.
+     *
+     * @param sha1 it's the SHA-1 digest.
+     */
+    public void put(byte[] sha1) {
+        long h1 = getLong(sha1, 0);
+        long h2 = getLong(sha1, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long position = HEADER_SIZE + (bit >>> 3);
+            MappedByteBuffer segment = segments[(int) (position >>> SEGMENT_SHIFT)];
+            int offset = (int) (position & SEGMENT_MASK);
+            segment.put(offset, (byte) (segment.get(offset) | (1 << (bit & 7))));
+        }
+    }
+
+    /**
+     * Write the changes to the storage device.
+     */
+    public void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode, long size) throws IOException {
+        int count = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] segments = new MappedByteBuffer[Math.max(1, count)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(mode, start, Math.min(SEGMENT_MASK + 1, size - start));
+        }
+        return segments;
+    }
+
+    private static long byteCount(long bitCount) {
+        return (bitCount + 7) >>> 3;
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + Long.BYTES; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.bomdestino.sgm.config.security.password;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+/**
+ * Check the passwords against an offline list of breached passwords, stored in a memory-mapped {@link BloomFilterFile}.
+ * <p>
+ * The filter file is built by the *buildBreachedPasswordFilter* Gradle task. It's reloaded when it changes on disk,
+ * so it can be replaced without a restart. While the check is disabled or the file is missing, no password is
+ * reported as breached.
+ */
+@Log4j2
+@Component
+public class BreachedPasswordFilter implements InitializingBean {
+
+    private static final ThreadLocal<MessageDigest> SHA1 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final boolean enabled;
+    private final Path filterFile;
+
+    private volatile BloomFilterFile filter;
+    private volatile FileTime loadedVersion;
+
+    public BreachedPasswordFilter(@Value("${password-rules.breached.enabled:false}") boolean enabled,
+                                  @Value("${password-rules.breached.filter-file:data/breached-passwords.bloom}") String filterFile) {
+        this.enabled = enabled;
+        this.filterFile = Paths.get(filterFile);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        reload();
+    }
+
+    /**
+     * Verify if the password is in the breached passwords list, with k probes of the mapped file.
+     * <p>
+     * The Bloom filter can report a false positive, at the rate chosen when the file was built, but never a false
+     * negative.
+     *
+     * @param password it's the password to be verified.
+     * @return true if the password is probably breached or false otherwise.
+     */
+    public boolean isBreached(String password) {
+        BloomFilterFile current = filter;
+        return Objects.nonNull(current) && current.mightContain(sha1(password));
+    }
+
+    /**
+     * Swap the mapped filter when the file has changed on disk.
+     */
+    @Scheduled(fixedDelayString = "${password-rules.breached.reload-interval-in-ms:60000}")
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            FileTime version = Files.getLastModifiedTime(filterFile);
+            if (version.equals(loadedVersion)) {
+                return;
+            }
+            BloomFilterFile loaded = BloomFilterFile.open(filterFile);
+            filter = loaded;
+            loadedVersion = version;
+            log.info("Breached passwords filter loaded from {}: {} bits, {} probes", filterFile,
+                    loaded.getBitCount(), loaded.getHashCount());
+        } catch (IOException e) {
+            if (Objects.isNull(filter)) {
+                log.warn("Breached passwords filter not available at {}: {}", filterFile, e.getMessage());
+            } else {
+                log.warn("Breached passwords filter reload failed, keeping the loaded one: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get the SHA-1 digest of a password, the same digest used by the breached passwords lists.
+     *
+     * @param password it's the password.
+     * @return the SHA-1 digest of the UTF-8 password.
+     */
+    public static byte[] sha1(String password) {
+        MessageDigest digest = SHA1.get();
+        digest.reset();
+        return digest.digest(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
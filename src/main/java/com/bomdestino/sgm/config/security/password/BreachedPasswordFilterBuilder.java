@@ -0,0 +1,131 @@
+package com.bomdestino.sgm.config.security.password;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Command line tool that builds the {@link BloomFilterFile} of the {@link BreachedPasswordFilter}.
+ * <p>
+ * The input is a text file with one SHA-1 hex digest per line, optionally followed by *:count*, the format of the
+ * public breached passwords lists. Usage: {@code <input file> <output file> [false positive rate]}.
+ */
+@Log4j2
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BreachedPasswordFilterBuilder {
+
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+    private static final int SHA1_HEX_LENGTH = 40;
+    private static final char COUNT_SEPARATOR = ':';
+    private static final int MAX_LOGGED_MALFORMED_LINES = 10;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: <input file> <output file> [false positive rate]");
+        }
+        Path input = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        double falsePositiveRate = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_FALSE_POSITIVE_RATE;
+        build(input, output, falsePositiveRate);
+    }
+
+    /**
+     * Build the filter file, it's written to a temporary file and moved in place, so a running application never
+     * maps a partial file. The malformed lines are skipped and counted, the temporary file is deleted on failure.
+     *
+     * @param input             it's the digests file.
+     * @param output            it's the filter file to be created.
+     * @param falsePositiveRate it's the accepted false positive rate.
+     * @throws IOException              if a file can't be read or written.
+     * @throws IllegalArgumentException if the input has no valid digest.
+     */
+    public static void build(Path input, Path output, double falsePositiveRate) throws IOException {
+        long expectedInsertions;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII)) {
+            expectedInsertions = reader.lines().filter(BreachedPasswordFilterBuilder::isDigest).count();
+        }
+        if (expectedInsertions == 0) {
+            throw new IllegalArgumentException("No SHA-1 hex digest found in " + input);
+        }
+        long bitCount = BloomFilterFile.optimalBitCount(expectedInsertions, falsePositiveRate);
+        int hashCount = BloomFilterFile.optimalHashCount(expectedInsertions, bitCount);
+        log.info("Building the breached passwords filter: {} digests, {} bits, {} probes", expectedInsertions, bitCount, hashCount);
+
+        Path absoluteOutput = output.toAbsolutePath();
+        if (Files.notExists(absoluteOutput.getParent())) {
+            Files.createDirectories(absoluteOutput.getParent());
+        }
+        Path temporary = Files.createTempFile(absoluteOutput.getParent(), absoluteOutput.getFileName().toString(), ".tmp");
+        try {
+            long malformedLines = fill(BloomFilterFile.create(temporary, bitCount, hashCount), input);
+            if (malformedLines > 0) {
+                log.warn("Skipped {} malformed lines of {}", malformedLines, input);
+            }
+            Files.move(temporary, absoluteOutput, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        log.info("Breached passwords filter written to {}", absoluteOutput);
+    }
+
+    /**
+     * Add the digests of the input to the filter.
+     *
+     * @return the number of skipped malformed lines, the blank ones aren't counted.
+     */
+    private static long fill(BloomFilterFile filter, Path input) throws IOException {
+        byte[] digest = new byte[SHA1_HEX_LENGTH / 2];
+        long lineNumber = 0;
+        long malformedLines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (isDigest(line)) {
+                    parseHex(line, digest);
+                    filter.put(digest);
+                } else if (!line.isBlank()) {
+                    malformedLines++;
+                    if (malformedLines <= MAX_LOGGED_MALFORMED_LINES) {
+                        log.warn("Malformed line {} of {}, expected a SHA-1 hex digest optionally followed by :count",
+                                lineNumber, input);
+                    }
+                }
+            }
+        }
+        filter.force();
+        return malformedLines;
+    }
+
+    /**
+     * Check if the line starts with 40 hex digits, alone or followed by *:count*.
+     */
+    static boolean isDigest(String line) {
+        if (line.length() < SHA1_HEX_LENGTH
+                || line.length() > SHA1_HEX_LENGTH && line.charAt(SHA1_HEX_LENGTH) != COUNT_SEPARATOR) {
+            return false;
+        }
+        for (int i = 0; i < SHA1_HEX_LENGTH; i++) {
+            if (Character.digit(line.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void parseHex(String line, byte[] digest) {
+        for (int i = 0; i < digest.length; i++) {
+            digest[i] = (byte) ((Character.digit(line.charAt(2 * i), 16) << 4) | Character.digit(line.charAt(2 * i + 1), 16));
+        }
+    }
+
+}
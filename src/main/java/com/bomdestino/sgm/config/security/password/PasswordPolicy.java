@@ -0,0 +1,119 @@
+package com.bomdestino.sgm.config.security.password;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import static com.bomdestino.sgm.util.Constants.USER_PASSWORD_MIN_LENGTH;
+
+/**
+ * Password policy engine, it checks all the password rules in a single pass over the chars, without allocation.
+ * <p>
+ * The *password-rules.regex.** properties are compiled once into a table with the character classes of each of the
+ * 65536 chars, so the configured rules keep their meaning. The violations are reported all together, as a mask of
+ * {@link PasswordViolation} bits.
+ */
+@Component
+public class PasswordPolicy {
+
+    private static final int NUMBER = 1;
+    private static final int LOWERCASE = 1 << 1;
+    private static final int UPPERCASE = 1 << 2;
+    private static final int NON_ALPHABETIC = 1 << 3;
+    private static final int MIN_USERNAME_SIMILARITY_LENGTH = 3;
+
+    private final byte[] charClasses = new byte[Character.MAX_VALUE + 1];
+    private final int minLength;
+    private final int maxRepeatedRun;
+
+    public PasswordPolicy(@Value("${password-rules.regex.number}") String numberRegex,
+                          @Value("${password-rules.regex.lowercase}") String lowercaseRegex,
+                          @Value("${password-rules.regex.uppercase}") String uppercaseRegex,
+                          @Value("${password-rules.regex.non-alphabetic}") String nonAlphabeticRegex,
+                          @Value("${password-rules.min-length:" + USER_PASSWORD_MIN_LENGTH + "}") int minLength,
+                          @Value("${password-rules.max-repeated-run:3}") int maxRepeatedRun) {
+        this.minLength = minLength;
+        this.maxRepeatedRun = maxRepeatedRun;
+        compile(numberRegex, NUMBER);
+        compile(lowercaseRegex, LOWERCASE);
+        compile(uppercaseRegex, UPPERCASE);
+        compile(nonAlphabeticRegex, NON_ALPHABETIC);
+    }
+
+    /**
+     * Get the minimum length of the passwords, from *password-rules.min-length*.
+     *
+     * @return the minimum number of chars of a password.
+     */
+    public int getMinLength() {
+        return minLength;
+    }
+
+    /**
+     * Check the password against all the rules.
+     *
+     * @param username it's the username of the password owner, the similarity rule is skipped if it's null.
+     * @param password it's the password to be checked.
+     * @return the mask of the {@link PasswordViolation}, zero if the password is valid.
+     */
+    public int check(String username, String password) {
+        int length = password.length();
+        int usernameLength = Objects.isNull(username) ? 0 : username.length();
+        boolean checkUsername = usernameLength >= MIN_USERNAME_SIMILARITY_LENGTH && usernameLength <= length;
+
+        int classes = 0;
+        int run = 0;
+        char previous = 0;
+        boolean repeatedRun = false;
+        boolean similarToUsername = false;
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+            classes |= charClasses[c];
+            run = (i > 0 && c == previous) ? run + 1 : 1;
+            repeatedRun |= run > maxRepeatedRun;
+            previous = c;
+            if (checkUsername && !similarToUsername && i + usernameLength <= length) {
+                similarToUsername = password.regionMatches(true, i, username, 0, usernameLength);
+            }
+        }
+
+        int violations = 0;
+        if (length < minLength) {
+            violations |= PasswordViolation.TOO_SHORT.getBit();
+        }
+        if ((classes & NUMBER) == 0) {
+            violations |= PasswordViolation.MISSING_NUMBER.getBit();
+        }
+        if ((classes & LOWERCASE) == 0) {
+            violations |= PasswordViolation.MISSING_LOWERCASE.getBit();
+        }
+        if ((classes & UPPERCASE) == 0) {
+            violations |= PasswordViolation.MISSING_UPPERCASE.getBit();
+        }
+        if ((classes & NON_ALPHABETIC) == 0) {
+            violations |= PasswordViolation.MISSING_NON_ALPHABETIC.getBit();
+        }
+        if (repeatedRun) {
+            violations |= PasswordViolation.REPEATED_RUN.getBit();
+        }
+        if (similarToUsername) {
+            violations |= PasswordViolation.SIMILAR_TO_USERNAME.getBit();
+        }
+        return violations;
+    }
+
+    /**
+     * Mark the chars matched by the rule regex with the class bit.
+     */
+    private void compile(String regex, int charClass) {
+        Pattern pattern = Pattern.compile(regex);
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (pattern.matcher(String.valueOf((char) c)).find()) {
+                charClasses[c] |= charClass;
+            }
+        }
+    }
+
+}
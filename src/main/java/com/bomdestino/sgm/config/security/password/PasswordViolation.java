@@ -0,0 +1,48 @@
+package com.bomdestino.sgm.config.security.password;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.bomdestino.sgm.util.TranslateConstants.*;
+
+/**
+ * The rules of the {@link PasswordPolicy}, each one owns a bit of the violations mask.
+ */
+@Getter
+@AllArgsConstructor
+public enum PasswordViolation {
+
+    TOO_SHORT(PASSWORD_IS_LESS_THAN_REQUIRED_MESSAGE),
+    MISSING_NUMBER(PASSWORD_NOT_CONTAINS_MESSAGE),
+    MISSING_LOWERCASE(PASSWORD_NOT_CONTAINS_MESSAGE),
+    MISSING_UPPERCASE(PASSWORD_NOT_CONTAINS_MESSAGE),
+    MISSING_NON_ALPHABETIC(PASSWORD_NOT_CONTAINS_MESSAGE),
+    REPEATED_RUN(PASSWORD_REPEATED_RUN_MESSAGE),
+    SIMILAR_TO_USERNAME(PASSWORD_SIMILAR_TO_USERNAME_MESSAGE);
+
+    private final String messageKey;
+
+    public int getBit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Convert a violations mask to a set.
+     *
+     * @param mask it's the violations mask.
+     * @return a set with the violations present in the mask.
+     */
+    public static Set<PasswordViolation> fromMask(int mask) {
+        Set<PasswordViolation> violations = EnumSet.noneOf(PasswordViolation.class);
+        for (PasswordViolation violation : values()) {
+            if ((mask & violation.getBit()) != 0) {
+                violations.add(violation);
+            }
+        }
+        return violations;
+    }
+
+}
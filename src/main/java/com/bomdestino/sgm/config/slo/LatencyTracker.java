@@ -0,0 +1,77 @@
+package com.bomdestino.sgm.config.slo;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latency histograms of a handler over a sliding window, in microseconds.
+ * <p>
+ * The requests are recorded lock-free on a {@link Recorder}. On each rotation its interval histogram replaces the
+ * oldest one of a fixed ring, which is recycled, so the memory is allocated once per handler.
+ */
+public class LatencyTracker {
+
+    private static final long LOWEST_DISCERNIBLE_VALUE = 1;
+
+    @Getter
+    private final String handler;
+    @Getter
+    private final String method;
+    @Getter
+    private final String path;
+    @Getter
+    private final long targetInMicros;
+    private final long highestTrackableValue;
+    private final int significantDigits;
+    private final Recorder recorder;
+    private final Histogram[] windows;
+    private int next;
+
+    public LatencyTracker(String handler, String method, String path, long targetInMs, SloProperties properties) {
+        this.handler = handler;
+        this.method = method;
+        this.path = path;
+        this.targetInMicros = TimeUnit.MILLISECONDS.toMicros(targetInMs);
+        this.highestTrackableValue = TimeUnit.MILLISECONDS.toMicros(properties.getHighestTrackableInMs());
+        this.significantDigits = properties.getSignificantDigits();
+        this.recorder = new Recorder(LOWEST_DISCERNIBLE_VALUE, highestTrackableValue, significantDigits);
+        this.windows = new Histogram[properties.getWindows()];
+    }
+
+    /**
+     * Record the latency of a request, the values above the trackable range are recorded as its highest value.
+     *
+     * @param nanos it's the latency of the request.
+     */
+    public void record(long nanos) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), highestTrackableValue));
+    }
+
+    /**
+     * Close the current window and drop the oldest one.
+     */
+    public synchronized void rotate() {
+        Histogram oldest = windows[next];
+        windows[next] = oldest == null ? recorder.getIntervalHistogram() : recorder.getIntervalHistogram(oldest);
+        next = (next + 1) % windows.length;
+    }
+
+    /**
+     * Merge the complete windows.
+     *
+     * @return a new {@link Histogram} with the latencies of the sliding window.
+     */
+    public synchronized Histogram snapshot() {
+        Histogram merged = new Histogram(LOWEST_DISCERNIBLE_VALUE, highestTrackableValue, significantDigits);
+        for (Histogram window : windows) {
+            if (window != null) {
+                merged.add(window);
+            }
+        }
+        return merged;
+    }
+
+}
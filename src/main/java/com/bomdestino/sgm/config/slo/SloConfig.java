@@ -0,0 +1,28 @@
+package com.bomdestino.sgm.config.slo;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the {@link SloFilter} based on Spring.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.slo", name = "enabled", havingValue = "true")
+public class SloConfig {
+
+    private static final int SLO_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 50;
+
+    /**
+     * Register the {@link SloFilter} first, so the latency includes the wait in the overload filters.
+     */
+    @Bean
+    public FilterRegistrationBean<SloFilter> sloFilter(SloRegistry registry) {
+        FilterRegistrationBean<SloFilter> registration = new FilterRegistrationBean<>(new SloFilter(registry));
+        registration.setOrder(SLO_FILTER_ORDER);
+        return registration;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.bomdestino.sgm.config.slo;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Records the latency of each request on the {@link SloRegistry}, under the handler that served it.
+ * <p>
+ * The async requests are recorded when they complete, not when the request thread returns. The requests rejected
+ * before reaching a handler aren't recorded.
+ */
+public class SloFilter extends OncePerRequestFilter {
+
+    private final SloRegistry registry;
+
+    public SloFilter(SloRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnComplete(start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                record(request, start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, long start) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod) {
+            registry.record((HandlerMethod) handler, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records an async request when its processing completes, after a timeout or an error too.
+     */
+    private class RecordOnComplete implements AsyncListener {
+
+        private final long start;
+
+        RecordOnComplete(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record((HttpServletRequest) event.getSuppliedRequest(), start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // recorded by onComplete
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // recorded by onComplete
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
+}
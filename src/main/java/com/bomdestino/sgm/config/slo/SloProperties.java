@@ -0,0 +1,40 @@
+package com.bomdestino.sgm.config.slo;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the endpoint latency SLO tracking based on Spring.
+ */
+@ConfigurationProperties(prefix = "application.slo")
+@Component
+@NoArgsConstructor
+@Data
+public class SloProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * The length of each window, the report covers the last *windows* complete ones.
+     */
+    private long windowInMs = 10000;
+    private int windows = 6;
+
+    /**
+     * The slower requests are recorded as this value, it bounds the size of the histograms.
+     */
+    private long highestTrackableInMs = 30000;
+    private int significantDigits = 2;
+    private Integer defaultTargetInMs = 500;
+
+    /**
+     * The latency targets by path pattern, in milliseconds, the first matching pattern is used.
+     */
+    private Map<String, Integer> targets = new LinkedHashMap<>();
+
+}
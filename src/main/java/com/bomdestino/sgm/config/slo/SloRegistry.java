@@ -0,0 +1,109 @@
+package com.bomdestino.sgm.config.slo;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Holds a {@link LatencyTracker} per request handler of the resources.
+ * <p>
+ * The trackers are created once, from the handler mappings, when the application is ready, so their number is bounded
+ * by the resources and not by the request paths. The requests of any other handler aren't recorded.
+ */
+@Log4j2
+@Component
+public class SloRegistry {
+
+    private static final String RESOURCE_PACKAGE = "com.bomdestino.sgm.resource";
+    private static final String ANY_METHOD = "*";
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final SloProperties properties;
+    private final RequestMappingHandlerMapping handlerMapping;
+
+    private volatile Map<Method, LatencyTracker> trackers = Collections.emptyMap();
+
+    public SloRegistry(SloProperties properties,
+                       @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        this.properties = properties;
+        this.handlerMapping = handlerMapping;
+    }
+
+    /**
+     * Create the trackers of the resource handlers.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerHandlers() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ImmutableMap.Builder<Method, LatencyTracker> builder = ImmutableMap.builder();
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            if (handlerMethod.getBeanType().getName().startsWith(RESOURCE_PACKAGE)) {
+                builder.put(handlerMethod.getMethod(), createTracker(info, handlerMethod));
+            }
+        });
+        trackers = builder.build();
+        log.info("Tracking the latency SLO of {} handlers", trackers.size());
+    }
+
+    /**
+     * Record the latency of a request.
+     *
+     * @param handlerMethod it's the handler of the request.
+     * @param nanos         it's the latency of the request.
+     */
+    public void record(HandlerMethod handlerMethod, long nanos) {
+        LatencyTracker tracker = trackers.get(handlerMethod.getMethod());
+        if (tracker != null) {
+            tracker.record(nanos);
+        }
+    }
+
+    /**
+     * Slide the window of every tracker.
+     */
+    @Scheduled(fixedRateString = "${application.slo.window-in-ms:10000}")
+    public void rotate() {
+        trackers.values().forEach(LatencyTracker::rotate);
+    }
+
+    public Collection<LatencyTracker> getAll() {
+        return trackers.values();
+    }
+
+    private LatencyTracker createTracker(RequestMappingInfo info, HandlerMethod handlerMethod) {
+        String handler = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        String method = info.getMethodsCondition().getMethods().isEmpty() ? ANY_METHOD
+                : info.getMethodsCondition().getMethods().stream().map(Enum::name).sorted().collect(Collectors.joining(","));
+        String path = String.join(",", info.getPatternValues());
+        return new LatencyTracker(handler, method, path, resolveTarget(info), properties);
+    }
+
+    private long resolveTarget(RequestMappingInfo info) {
+        for (Map.Entry<String, Integer> entry : properties.getTargets().entrySet()) {
+            for (String pattern : info.getPatternValues()) {
+                if (pathMatcher.match(entry.getKey(), pattern)) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return properties.getDefaultTargetInMs();
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.bomdestino.sgm.config.timing;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The per-phase durations of a timed request.
+ * <p>
+ * Each thread working on the request keeps a cursor with its current phase. Entering a phase pauses the enclosing
+ * one, so the durations are exclusive: the repository queries made while mapping are counted as *db*, not as *app*.
+ * Without a timed request, entering and leaving a phase is a single thread-local read.
+ */
+public final class ServerTiming {
+
+    private static final ThreadLocal<Cursor> CURRENT = new ThreadLocal<>();
+    private static final ServerTimingPhase[] PHASES = ServerTimingPhase.values();
+
+    private final long start = System.nanoTime();
+    private final AtomicLongArray durations = new AtomicLongArray(PHASES.length);
+    private volatile boolean exposed;
+
+    ServerTiming(boolean exposed) {
+        this.exposed = exposed;
+    }
+
+    /**
+     * Enter a phase on the current thread.
+     *
+     * @param phase it's the phase to be entered.
+     * @return the enclosing phase, to be given back to {@link #exit(ServerTimingPhase)}, or null.
+     */
+    public static ServerTimingPhase enter(ServerTimingPhase phase) {
+        Cursor cursor = CURRENT.get();
+        if (cursor == null) {
+            return null;
+        }
+        ServerTimingPhase previous = cursor.phase;
+        cursor.switchTo(phase);
+        return previous;
+    }
+
+    /**
+     * Leave the current phase on the current thread, going back to the enclosing one.
+     *
+     * @param previous it's the phase returned by {@link #enter(ServerTimingPhase)}.
+     */
+    public static void exit(ServerTimingPhase previous) {
+        Cursor cursor = CURRENT.get();
+        if (cursor != null) {
+            cursor.switchTo(previous);
+        }
+    }
+
+    /**
+     * Get the current phase of the current thread.
+     *
+     * @return the current {@link ServerTimingPhase} or null if the request isn't timed or out of any phase.
+     */
+    public static ServerTimingPhase currentPhase() {
+        Cursor cursor = CURRENT.get();
+        return cursor == null ? null : cursor.phase;
+    }
+
+    /**
+     * Carry the timing of the submitting thread to a task, used as the task decorator of the request executors.
+     *
+     * @param task it's the task to be decorated.
+     * @return the task recording its phases on the timing of the submitting request.
+     */
+    public static Runnable propagate(Runnable task) {
+        Cursor cursor = CURRENT.get();
+        if (cursor == null) {
+            return task;
+        }
+        ServerTiming timing = cursor.timing;
+        return () -> {
+            Cursor previous = CURRENT.get();
+            CURRENT.set(new Cursor(timing));
+            try {
+                task.run();
+            } finally {
+                CURRENT.get().switchTo(null);
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static void bind(ServerTiming timing) {
+        CURRENT.set(new Cursor(timing));
+    }
+
+    static void clear() {
+        Cursor cursor = CURRENT.get();
+        if (cursor != null) {
+            cursor.switchTo(null);
+            CURRENT.remove();
+        }
+    }
+
+    boolean isExposed() {
+        return exposed;
+    }
+
+    /**
+     * Expose the timing even if it hasn't been sampled.
+     */
+    void expose() {
+        exposed = true;
+    }
+
+    /**
+     * Build the header value, the phases with their durations in milliseconds and the *total* so far.
+     */
+    String toHeaderValue() {
+        StringBuilder value = new StringBuilder(160);
+        for (ServerTimingPhase phase : PHASES) {
+            long duration = durations.get(phase.ordinal());
+            if (duration > 0) {
+                append(value, phase.getMetricName(), duration).append(";desc=\"").append(phase.getDescription()).append('"');
+            }
+        }
+        return append(value, "total", System.nanoTime() - start).toString();
+    }
+
+    private static StringBuilder append(StringBuilder value, String name, long durationInNanos) {
+        if (value.length() > 0) {
+            value.append(", ");
+        }
+        return value.append(name).append(";dur=")
+                .append(String.format(Locale.ROOT, "%.3f", durationInNanos / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    /**
+     * The phase of a thread working on a timed request.
+     */
+    private static final class Cursor {
+
+        private final ServerTiming timing;
+        private ServerTimingPhase phase;
+        private long phaseStart;
+
+        Cursor(ServerTiming timing) {
+            this.timing = timing;
+        }
+
+        void switchTo(ServerTimingPhase next) {
+            long now = System.nanoTime();
+            if (phase != null) {
+                timing.durations.addAndGet(phase.ordinal(), now - phaseStart);
+            }
+            phase = next;
+            phaseStart = now;
+        }
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.bomdestino.sgm.config.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the *app* phase around the resources and the *db* phase around the repositories of a timed request.
+ * <p>
+ * The repository calls of the user status lookup are kept in its own phase.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "application.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingAspect {
+
+    @Around("within(com.bomdestino.sgm.resource..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeResource(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServerTimingPhase previous = ServerTiming.enter(ServerTimingPhase.MAPPING);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ServerTiming.exit(previous);
+        }
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (ServerTiming.currentPhase() == ServerTimingPhase.USER_STATUS) {
+            return joinPoint.proceed();
+        }
+        ServerTimingPhase previous = ServerTiming.enter(ServerTimingPhase.REPOSITORY);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ServerTiming.exit(previous);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.bomdestino.sgm.config.timing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the {@link ServerTimingFilter} and the {@link ServerTimingResponseFilter} based on Spring.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    private static final int SERVER_TIMING_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 40;
+    private static final int SERVER_TIMING_RESPONSE_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER + 10;
+
+    /**
+     * Register the {@link ServerTimingFilter} first, so the *total* covers the overload filters too.
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties));
+        registration.setOrder(SERVER_TIMING_FILTER_ORDER);
+        return registration;
+    }
+
+    /**
+     * Register the {@link ServerTimingResponseFilter} after the security, so the caller is known before buffering.
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingResponseFilter> serverTimingResponseFilter(
+            ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingResponseFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingResponseFilter(properties));
+        registration.setOrder(SERVER_TIMING_RESPONSE_FILTER_ORDER);
+        return registration;
+    }
+
+}
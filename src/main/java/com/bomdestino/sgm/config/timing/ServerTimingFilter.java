@@ -0,0 +1,55 @@
+package com.bomdestino.sgm.config.timing;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Times the sampled requests and the ones asking for it, binding the timing to the threads working on them.
+ * <p>
+ * The response isn't touched here, it's buffered by the {@link ServerTimingResponseFilter} once the caller is known.
+ * The async requests keep their timing in a request attribute and bind it again on the async dispatch.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String TIMING_ATTRIBUTE = ServerTimingFilter.class.getName() + ".timing";
+
+    private final ServerTimingProperties properties;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ServerTiming timing = (ServerTiming) request.getAttribute(TIMING_ATTRIBUTE);
+        if (timing == null) {
+            boolean sampled = ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+            if (!sampled && request.getHeader(properties.getHeader()) == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            timing = new ServerTiming(sampled);
+            request.setAttribute(TIMING_ATTRIBUTE, timing);
+        }
+
+        ServerTiming.bind(timing);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ServerTiming.clear();
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.bomdestino.sgm.config.timing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The phases of a request reported in the *Server-Timing* header.
+ */
+@Getter
+@AllArgsConstructor
+public enum ServerTimingPhase {
+
+    JWT("jwt", "Token validation"),
+    USER_STATUS("user", "User status lookup"),
+    REPOSITORY("db", "Repository queries"),
+    MAPPING("app", "Service and DTO mapping"),
+    SERIALIZATION("json", "JSON serialization");
+
+    private final String metricName;
+    private final String description;
+
+}
@@ -0,0 +1,29 @@
+package com.bomdestino.sgm.config.timing;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration of the *Server-Timing* header based on Spring.
+ */
+@ConfigurationProperties(prefix = "application.server-timing")
+@Component
+@NoArgsConstructor
+@Data
+public class ServerTimingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * The fraction of the requests timed and exposed to any client, from 0 to 1.
+     */
+    private double sampleRate = 0;
+
+    /**
+     * The header that asks for the timing of a request, it's exposed only to the auditors.
+     */
+    private String header = "X-Server-Timing";
+
+}
@@ -0,0 +1,88 @@
+package com.bomdestino.sgm.config.timing;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static com.bomdestino.sgm.util.Authorities.AUDITOR;
+
+/**
+ * Writes the *Server-Timing* header of the exposed requests, the sampled ones and the ones asked by an auditor.
+ * <p>
+ * It runs after the authentication, so the authority of the caller is checked before buffering anything: the body of
+ * an exposed request is buffered, so the header can be set after the serialization, the other requests pass through
+ * unbuffered. The async requests write the header on the async dispatch.
+ */
+public class ServerTimingResponseFilter extends OncePerRequestFilter {
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+
+    public ServerTimingResponseFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ServerTiming timing = (ServerTiming) request.getAttribute(ServerTimingFilter.TIMING_ATTRIBUTE);
+        if (timing == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletResponse responseToUse = response;
+        if (!isAsyncDispatch(request)) {
+            if (!timing.isExposed() && request.getHeader(properties.getHeader()) != null && isAuditor()) {
+                timing.expose();
+            }
+            if (!timing.isExposed()) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            if (!(response instanceof ContentCachingResponseWrapper)) {
+                responseToUse = new ContentCachingResponseWrapper(response);
+            }
+        }
+
+        try {
+            filterChain.doFilter(request, responseToUse);
+        } finally {
+            if (!isAsyncStarted(request)) {
+                writeTiming(responseToUse, timing);
+            }
+        }
+    }
+
+    private static boolean isAuditor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> AUDITOR.equals(authority.getAuthority()));
+    }
+
+    private static void writeTiming(HttpServletResponse response, ServerTiming timing) throws IOException {
+        ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (wrapper == null) {
+            return;
+        }
+        if (timing.isExposed() && !wrapper.isCommitted()) {
+            wrapper.setHeader(SERVER_TIMING_HEADER, timing.toHeaderValue());
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+}
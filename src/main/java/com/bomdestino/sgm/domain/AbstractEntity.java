@@ -2,14 +2,17 @@ package com.bomdestino.sgm.domain;
 
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.LazyGroup;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import javax.persistence.Basic;
 import javax.persistence.Column;
 import javax.persistence.EntityListeners;
+import javax.persistence.FetchType;
 import javax.persistence.MappedSuperclass;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -21,6 +24,8 @@ import static com.bomdestino.sgm.util.Constants.*;
 /**
  * Base abstract class for entities which will hold definitions for created, last modified by and created,
  * last modified by date.
+ * <p>
+ * The audit columns are lazy and only loaded, all together, when one of them is read.
  */
 @Getter
 @Setter
@@ -34,23 +39,31 @@ public abstract class AbstractEntity implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @CreatedBy
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(AUDIT_LAZY_GROUP)
     @NotBlank
     @Column(name = CREATED_BY, nullable = false, updatable = false)
     private String createdBy;
 
     @Builder.Default
     @CreatedDate
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(AUDIT_LAZY_GROUP)
     @NotNull
     @Column(name = CREATED_DATE, nullable = false, updatable = false)
     private Instant createdDate = Instant.now();
 
     @LastModifiedBy
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(AUDIT_LAZY_GROUP)
     @NotBlank
     @Column(name = LAST_MODIFIED_BY, nullable = false, length = 256)
     private String lastModifiedBy;
 
     @Builder.Default
     @LastModifiedDate
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(AUDIT_LAZY_GROUP)
     @NotNull
     @Column(name = LAST_MODIFIED_DATE, nullable = false)
     private Instant lastModifiedDate = Instant.now();
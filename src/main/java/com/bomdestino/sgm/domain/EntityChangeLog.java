@@ -0,0 +1,51 @@
+package com.bomdestino.sgm.domain;
+
+import com.bomdestino.sgm.config.invalidation.InvalidationEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.Instant;
+
+import static com.bomdestino.sgm.util.Constants.*;
+
+/**
+ * Domain class for the change-log rows of the {@link com.bomdestino.sgm.config.invalidation.JdbcInvalidationBus}.
+ * <p>
+ * The rows are written and read with plain JDBC, the mapping only keeps the schema.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@Table(name = ENTITY_CHANGE_LOG, indexes = @Index(name = IX_ENTITY_CHANGE_LOG_CREATED_DATE, columnList = CREATED_DATE))
+public class EntityChangeLog implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = ID)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = ENTITY_TYPE, nullable = false, length = 32)
+    private InvalidationEntity entityType;
+
+    @NotNull
+    @Column(name = ENTITY_ID, nullable = false)
+    private Long entityId;
+
+    @NotNull
+    @Column(name = NODE_ID, nullable = false, length = 36)
+    private String nodeId;
+
+    @NotNull
+    @Column(name = CREATED_DATE, nullable = false)
+    private Instant createdDate;
+
+}
@@ -1,11 +1,13 @@
 package com.bomdestino.sgm.domain;
 
 import com.bomdestino.sgm.config.security.auth.SGMRole;
+import com.bomdestino.sgm.domain.converter.SGMRoleMaskConverter;
 import com.sun.istack.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
@@ -23,8 +25,9 @@ import static com.bomdestino.sgm.util.Constants.*;
 @SuperBuilder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = PROFILE)
+@Table(name = PROFILE, uniqueConstraints = @UniqueConstraint(name = UK_PROFILE_NAME, columnNames = NAME))
 @EqualsAndHashCode(callSuper = false)
+@DynamicUpdate
 @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 public class Profile extends AbstractEntity implements Serializable {
 
@@ -44,12 +47,22 @@ public class Profile extends AbstractEntity implements Serializable {
     @Column(name = DESCRIPTION, length = 256)
     private String description;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Enumerated(EnumType.STRING)
+    /**
+     * Stored as a bitmask, the set must be replaced, not changed in place, for the update to be detected.
+     */
     @NotNull
-    @Column(name = ROLES, nullable = false)
+    @Convert(converter = SGMRoleMaskConverter.class)
+    @Column(name = ROLES_MASK, nullable = false)
     private Set<SGMRole> roles;
 
+    /**
+     * Incremented each time the roles change, it's embedded in the access tokens to detect the stale ones.
+     */
+    @Builder.Default
+    @NotNull
+    @Column(name = ROLES_VERSION, nullable = false)
+    private long rolesVersion = 0L;
+
     @Builder.Default
     @NotNull
     @Column(name = IS_ONLY_READ, nullable = false)
@@ -4,6 +4,7 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
@@ -23,8 +24,9 @@ import static com.bomdestino.sgm.util.Constants.*;
 @SuperBuilder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = SERVICE)
+@Table(name = SERVICE, uniqueConstraints = @UniqueConstraint(name = UK_SGMSERVICE_NAME, columnNames = NAME))
 @EqualsAndHashCode(callSuper = false)
+@DynamicUpdate
 @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 public class SGMService extends AbstractEntity implements Serializable {
 
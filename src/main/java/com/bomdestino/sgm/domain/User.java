@@ -6,6 +6,8 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.LazyGroup;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
@@ -26,8 +28,9 @@ import static com.bomdestino.sgm.util.Constants.*;
 @SuperBuilder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = USER)
+@Table(name = USER, uniqueConstraints = @UniqueConstraint(name = UK_USER_USERNAME, columnNames = USERNAME))
 @EqualsAndHashCode(callSuper = false)
+@DynamicUpdate
 @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 public class User extends AbstractEntity implements Serializable {
 
@@ -50,6 +53,10 @@ public class User extends AbstractEntity implements Serializable {
 
     @JsonIgnore
     @NotBlank
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(PASSWORD_LAZY_GROUP)
     @Column(name = PASSWORD_HASH, nullable = false)
     private String password;
 
@@ -0,0 +1,25 @@
+package com.bomdestino.sgm.domain.converter;
+
+import com.bomdestino.sgm.config.security.auth.SGMRole;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.Set;
+
+/**
+ * Persist a set of {@link SGMRole} as a single integer mask.
+ */
+@Converter
+public class SGMRoleMaskConverter implements AttributeConverter<Set<SGMRole>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<SGMRole> roles) {
+        return SGMRole.toMask(roles);
+    }
+
+    @Override
+    public Set<SGMRole> convertToEntityAttribute(Integer mask) {
+        return SGMRole.fromMask(mask == null ? 0 : mask);
+    }
+
+}
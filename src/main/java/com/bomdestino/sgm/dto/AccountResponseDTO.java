@@ -4,10 +4,12 @@ import com.bomdestino.sgm.domain.User;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.BeanUtils;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.Serializable;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -27,10 +29,13 @@ public class AccountResponseDTO implements Serializable {
     private Boolean updatePassword;
 
     public AccountResponseDTO(User user) {
+        this(user, SecurityContextHolder.getContext().getAuthentication().getAuthorities());
+    }
+
+    public AccountResponseDTO(User user, Collection<? extends GrantedAuthority> authorities) {
         BeanUtils.copyProperties(user, this);
         this.profile = user.getProfile().getName();
-        SecurityContextHolder.getContext().getAuthentication().getAuthorities().forEach(authority ->
-                this.authorities.add(authority.getAuthority()));
+        authorities.forEach(authority -> this.authorities.add(authority.getAuthority()));
 
         ZonedDateTime now = ZonedDateTime.now();
         ZonedDateTime ninetyDaysAgo = now.plusDays(-60);
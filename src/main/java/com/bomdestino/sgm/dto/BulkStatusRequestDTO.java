@@ -0,0 +1,26 @@
+package com.bomdestino.sgm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+import static com.bomdestino.sgm.util.TranslateConstants.BULK_IDS_EMPTY;
+import static com.bomdestino.sgm.util.TranslateConstants.BULK_IDS_SIZE;
+
+/**
+ * A request DTO with the ids of the entities to have their status updated at once.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusRequestDTO {
+
+    @NotEmpty(message = BULK_IDS_EMPTY)
+    @Size(max = 1000, message = BULK_IDS_SIZE)
+    private List<Long> ids;
+
+}
@@ -0,0 +1,44 @@
+package com.bomdestino.sgm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A response DTO with the ids that have been affected and skipped by a status update.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusResponseDTO implements Serializable {
+
+    private List<Long> affected;
+    private List<Long> skipped;
+
+    /**
+     * Create the response from the requested ids and the ids that have been updated.
+     *
+     * @param requested it's the ids sent by the client.
+     * @param affected  it's the ids that have been updated.
+     * @return the {@link BulkStatusResponseDTO} with every other requested id reported as skipped.
+     */
+    public static BulkStatusResponseDTO of(Collection<Long> requested, Collection<Long> affected) {
+        Set<Long> affectedIds = new HashSet<>(affected);
+        List<Long> skipped = new ArrayList<>();
+        new LinkedHashSet<>(requested).stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !affectedIds.contains(id))
+                .forEach(skipped::add);
+        return new BulkStatusResponseDTO(new ArrayList<>(affected), skipped);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.bomdestino.sgm.dto;
+
+import com.bomdestino.sgm.config.bulkhead.Bulkhead;
+import com.bomdestino.sgm.config.bulkhead.BulkheadGroup;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * A VO class representing the saturation of a {@link Bulkhead} and of its connection pool.
+ */
+@Data
+@NoArgsConstructor
+public class BulkheadStatsDTO implements Serializable {
+
+    private BulkheadGroup group;
+    private int maxConcurrent;
+    private int inFlight;
+    private long accepted;
+    private long rejected;
+    private Integer activeConnections;
+    private Integer idleConnections;
+    private Integer threadsAwaitingConnection;
+
+    public BulkheadStatsDTO(Bulkhead bulkhead) {
+        this.group = bulkhead.getGroup();
+        this.maxConcurrent = bulkhead.getMaxConcurrent();
+        this.inFlight = bulkhead.getInFlight();
+        this.accepted = bulkhead.getAccepted();
+        this.rejected = bulkhead.getRejected();
+    }
+
+}
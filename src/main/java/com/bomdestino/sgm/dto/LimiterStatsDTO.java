@@ -0,0 +1,35 @@
+package com.bomdestino.sgm.dto;
+
+import com.bomdestino.sgm.config.limiter.AdaptiveConcurrencyLimiter;
+import com.bomdestino.sgm.config.limiter.LimiterPriority;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A VO class representing the state of the {@link AdaptiveConcurrencyLimiter}, with the shed requests by class.
+ */
+@Data
+@NoArgsConstructor
+public class LimiterStatsDTO implements Serializable {
+
+    private boolean enabled;
+    private int limit;
+    private int inFlight;
+    private long accepted;
+    private Map<LimiterPriority, Long> shed = new EnumMap<>(LimiterPriority.class);
+
+    public LimiterStatsDTO(AdaptiveConcurrencyLimiter limiter, boolean enabled) {
+        this.enabled = enabled;
+        this.limit = limiter.getLimit();
+        this.inFlight = limiter.getInFlight();
+        this.accepted = limiter.getAccepted();
+        for (LimiterPriority priority : LimiterPriority.values()) {
+            this.shed.put(priority, limiter.getShed(priority));
+        }
+    }
+
+}
@@ -5,12 +5,14 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.Size;
 
 import static com.bomdestino.sgm.util.TranslateConstants.*;
 
 /**
  * A DTO representing a password change request.
+ * <p>
+ * The password length is checked by the {@link com.bomdestino.sgm.config.security.password.PasswordPolicy}, from
+ * *password-rules.min-length*.
  */
 @Data
 @NoArgsConstructor
@@ -18,11 +20,9 @@ import static com.bomdestino.sgm.util.TranslateConstants.*;
 public class PasswordChangeRequestDTO {
 
     @NotBlank(message = USER_PASSWORD_BLANK)
-    @Size(min = 7, message = USER_PASSWORD_SIZE)
     private String password;
 
     @NotBlank(message = USER_CONFIRM_PASSWORD_BLANK)
-    @Size(min = 7, message = USER_CONFIRM_PASSWORD_SIZE)
     private String confirmPassword;
 
 }
@@ -0,0 +1,53 @@
+package com.bomdestino.sgm.dto;
+
+import com.bomdestino.sgm.config.slo.LatencyTracker;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.io.Serializable;
+
+/**
+ * A VO class representing the latency percentiles of a handler, in milliseconds, and its SLO breach rate.
+ */
+@Data
+@NoArgsConstructor
+public class SloReportDTO implements Serializable {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private String handler;
+    private String method;
+    private String path;
+    private long count;
+    private double p50;
+    private double p90;
+    private double p99;
+    private double p999;
+    private double max;
+    private double targetInMs;
+    private double breachRate;
+
+    public SloReportDTO(LatencyTracker tracker) {
+        Histogram histogram = tracker.snapshot();
+        this.handler = tracker.getHandler();
+        this.method = tracker.getMethod();
+        this.path = tracker.getPath();
+        this.count = histogram.getTotalCount();
+        this.p50 = toMillis(histogram.getValueAtPercentile(50));
+        this.p90 = toMillis(histogram.getValueAtPercentile(90));
+        this.p99 = toMillis(histogram.getValueAtPercentile(99));
+        this.p999 = toMillis(histogram.getValueAtPercentile(99.9));
+        this.max = toMillis(histogram.getMaxValue());
+        this.targetInMs = toMillis(tracker.getTargetInMicros());
+        if (count > 0) {
+            long withinTarget = histogram.getCountBetweenValues(0, tracker.getTargetInMicros());
+            this.breachRate = (double) (count - withinTarget) / count;
+        }
+    }
+
+    private static double toMillis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+}
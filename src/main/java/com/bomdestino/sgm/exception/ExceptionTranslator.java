@@ -1,10 +1,17 @@
 package com.bomdestino.sgm.exception;
 
-import com.bomdestino.sgm.exception.exceptions.ExpiredCredentialsException;
-import com.bomdestino.sgm.exception.exceptions.NotFoundException;
+import com.bomdestino.sgm.exception.exceptions.*;
 import com.bomdestino.sgm.util.Translator;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import lombok.AllArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -22,10 +29,19 @@ import org.zalando.problem.violations.ConstraintViolationProblem;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static com.bomdestino.sgm.util.Constants.UK_PROFILE_NAME;
+import static com.bomdestino.sgm.util.Constants.UK_SGMSERVICE_NAME;
+import static com.bomdestino.sgm.util.Constants.UK_USER_USERNAME;
 import static com.bomdestino.sgm.util.TranslateConstants.*;
 
 
@@ -42,17 +58,109 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
     private static final String VIOLATIONS_KEY = "violations";
     private static final String FIELD_ERRORS_KEY = "fieldErrors";
     private static final String EXPIRED_CREDENTIALS_KEY = "expiredCredentials";
+    private static final String RETRY_AFTER_IN_SECONDS = "1";
+
+    /**
+     * The entity and field translation keys of each unique constraint.
+     */
+    private static final Map<String, List<String>> UNIQUE_CONSTRAINT_FIELDS = ImmutableMap.of(
+            UK_USER_USERNAME, ImmutableList.of(USER_ENTITY, FIELD_USERNAME),
+            UK_PROFILE_NAME, ImmutableList.of(PROFILE_ENTITY, FIELD_NAME),
+            UK_SGMSERVICE_NAME, ImmutableList.of(SGMSERVICE_ENTITY, FIELD_NAME));
+
+    /**
+     * The status of the business exceptions answered from the {@link ProblemTemplates}.
+     */
+    private static final Map<Class<? extends RuntimeException>, Status> BUSINESS_EXCEPTION_STATUS = ImmutableMap.of(
+            BusinessRuleException.class, Status.BAD_REQUEST,
+            FieldConflictException.class, Status.BAD_REQUEST,
+            UnauthorizedCredentialsException.class, Status.UNAUTHORIZED,
+            UserNotActivatedException.class, Status.UNAUTHORIZED,
+            DeadlineExceededException.class, Status.GATEWAY_TIMEOUT);
 
     private final Translator translator;
+    private final ProblemTemplates problemTemplates;
 
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<Problem> expiredCredentialsException(NotFoundException e, NativeWebRequest request) {
-        return create(e, getNotFoundErrorResponseEntity(e.getMessage()), request);
+        return create(e, getTemplate(Status.NOT_FOUND, e.getMessage(), () -> getNotFoundErrorResponseEntity(e.getMessage())), request);
     }
 
     @ExceptionHandler(ExpiredCredentialsException.class)
     public ResponseEntity<Problem> expiredCredentialsException(ExpiredCredentialsException e, NativeWebRequest request) {
-        return create(e, getExpiredCredentialsErrorResponseEntity(e.getMessage()), request);
+        return create(e, getTemplate(Status.FORBIDDEN, e.getMessage(), () -> getExpiredCredentialsErrorResponseEntity(e.getMessage())), request);
+    }
+
+    @ExceptionHandler({BusinessRuleException.class, FieldConflictException.class, UnauthorizedCredentialsException.class,
+            UserNotActivatedException.class, DeadlineExceededException.class})
+    public ResponseEntity<Problem> businessException(RuntimeException e, NativeWebRequest request) {
+        Status status = getBusinessExceptionStatus(e.getClass());
+        return create(e, getTemplate(status, e.getMessage(), () -> Problem.builder()
+                .withStatus(status)
+                .withTitle(status.getReasonPhrase())
+                .withDetail(e.getMessage())
+                .build()), request);
+    }
+
+    /**
+     * Map the unique constraints violations to the same {@link FieldConflictException} thrown by the services.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Problem> dataIntegrityViolationException(DataIntegrityViolationException e, NativeWebRequest request) {
+        return getViolatedUniqueConstraintFields(e)
+                .map(fields -> businessException(new FieldConflictException(String.format(translator.translate(CONFLICT_FIELD_MALE),
+                        translator.translate(fields.get(0)), translator.translate(fields.get(1)))), request))
+                .orElseGet(() -> create(e, request));
+    }
+
+    /**
+     * Map the statements cancelled by the request deadline to the same {@link DeadlineExceededException} of the
+     * repository calls.
+     */
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<Problem> queryTimeoutException(QueryTimeoutException e, NativeWebRequest request) {
+        return businessException(new DeadlineExceededException(translator.translate(ERR_DEADLINE_EXCEEDED)), request);
+    }
+
+    /**
+     * Get the status of a business exception, a subclass answers with the status of its nearest mapped superclass.
+     *
+     * @param type it's the class of the thrown exception.
+     * @return the mapped status, or internal server error when no class in the hierarchy is mapped.
+     */
+    static Status getBusinessExceptionStatus(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Status status = BUSINESS_EXCEPTION_STATUS.get(current);
+            if (Objects.nonNull(status)) {
+                return status;
+            }
+        }
+        return Status.INTERNAL_SERVER_ERROR;
+    }
+
+    private Optional<List<String>> getViolatedUniqueConstraintFields(DataIntegrityViolationException e) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException
+                ? ((ConstraintViolationException) e.getCause()).getConstraintName() : null;
+        String violation = (Objects.nonNull(constraintName) ? constraintName :
+                String.valueOf(Throwables.getRootCause(e).getMessage())).toUpperCase(Locale.ROOT);
+        return UNIQUE_CONSTRAINT_FIELDS.entrySet().stream()
+                .filter(entry -> violation.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst();
+    }
+
+    /**
+     * Get the cached template of an error, the template is already in the shape produced by {@link #process}.
+     */
+    private TemplateProblem getTemplate(Status status, String errorKey, Supplier<Problem> factory) {
+        return problemTemplates.get(status, errorKey, () -> {
+            Problem problem = factory.get();
+            Map<String, Object> parameters = new LinkedHashMap<>(problem.getParameters());
+            parameters.putIfAbsent(MESSAGE_KEY, "error.http." + status.getStatusCode());
+            return new TemplateProblem(Problem.DEFAULT_TYPE.equals(problem.getType()) ? DEFAULT_TYPE : problem.getType(),
+                    problem.getTitle(), problem.getStatus(), problem.getDetail(), problem.getInstance(),
+                    Collections.unmodifiableMap(parameters));
+        });
     }
 
     private Problem getNotFoundErrorResponseEntity(String key) {
@@ -82,11 +190,16 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
             return entity;
         }
         Problem problem = entity.getBody();
-        if (!(problem instanceof ConstraintViolationProblem || problem instanceof DefaultProblem)) {
+        if (!(problem instanceof ConstraintViolationProblem || problem instanceof DefaultProblem
+                || problem instanceof TemplateProblem)) {
             return entity;
         }
         HttpServletRequest httpServletRequest = request.getNativeRequest(HttpServletRequest.class);
         String requestURI = Objects.nonNull(httpServletRequest) ? httpServletRequest.getRequestURI() : "";
+        if (problem instanceof TemplateProblem) {
+            return new ResponseEntity<>(new RequestProblem((TemplateProblem) problem, requestURI), entity.getHeaders(),
+                    entity.getStatusCode());
+        }
         ProblemBuilder builder = Problem.builder()
                 .withType(Problem.DEFAULT_TYPE.equals(problem.getType()) ? DEFAULT_TYPE : problem.getType())
                 .withStatus(problem.getStatus())
@@ -137,4 +250,18 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
         return create(ex, problem, request);
     }
 
+    /**
+     * The executor queue is full, the client is asked to retry instead of waiting for a request thread.
+     */
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleTaskRejected(TaskRejectedException ex, NativeWebRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_IN_SECONDS);
+        return create(ex, getTemplate(Status.SERVICE_UNAVAILABLE, ERR_SERVICE_BUSY, () -> Problem.builder()
+                .withStatus(Status.SERVICE_UNAVAILABLE)
+                .withTitle(Status.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .withDetail(translator.translate(ERR_SERVICE_BUSY))
+                .build()), request, headers);
+    }
+
 }
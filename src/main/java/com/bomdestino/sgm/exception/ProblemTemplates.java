@@ -0,0 +1,59 @@
+package com.bomdestino.sgm.exception;
+
+import com.bomdestino.sgm.util.Translator;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import org.zalando.problem.StatusType;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the {@link TemplateProblem} of each error, keyed by status, error key and locale.
+ * <p>
+ * The cache is bounded, the errors beyond the limit are built on each request.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProblemTemplates {
+
+    private static final int MAX_TEMPLATES = 1024;
+
+    private final Translator translator;
+    private final Map<TemplateKey, TemplateProblem> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Get the template of an error, building it on the first use.
+     *
+     * @param status   it's the status of the error.
+     * @param errorKey it's the key or the translated message that identifies the error.
+     * @param factory  it's the builder of the template.
+     * @return the shared template of the error.
+     */
+    public TemplateProblem get(StatusType status, String errorKey, Supplier<TemplateProblem> factory) {
+        TemplateKey key = new TemplateKey(status.getStatusCode(), errorKey, translator.getLocale());
+        TemplateProblem template = templates.get(key);
+        if (template != null) {
+            return template;
+        }
+        template = factory.get();
+        if (templates.size() < MAX_TEMPLATES) {
+            TemplateProblem previous = templates.putIfAbsent(key, template);
+            return previous != null ? previous : template;
+        }
+        return template;
+    }
+
+    @Value
+    private static class TemplateKey {
+
+        int status;
+        String errorKey;
+        Locale locale;
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.bomdestino.sgm.exception;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.AllArgsConstructor;
+import org.zalando.problem.Problem;
+import org.zalando.problem.StatusType;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * A {@link TemplateProblem} with the path of the request that failed.
+ */
+@AllArgsConstructor
+public class RequestProblem implements Problem {
+
+    private static final String PATH_KEY = "path";
+
+    private final TemplateProblem template;
+    private final String path;
+
+    @Override
+    public URI getType() {
+        return template.getType();
+    }
+
+    @Override
+    public String getTitle() {
+        return template.getTitle();
+    }
+
+    @Override
+    public StatusType getStatus() {
+        return template.getStatus();
+    }
+
+    @Override
+    public String getDetail() {
+        return template.getDetail();
+    }
+
+    @Override
+    public URI getInstance() {
+        return template.getInstance();
+    }
+
+    @Override
+    public Map<String, Object> getParameters() {
+        return ImmutableMap.<String, Object>builder()
+                .put(PATH_KEY, path)
+                .putAll(template.getParameters())
+                .build();
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.bomdestino.sgm.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.zalando.problem.Problem;
+import org.zalando.problem.StatusType;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * An immutable {@link Problem}, shared by all the responses of the same error.
+ */
+@Getter
+@AllArgsConstructor
+public class TemplateProblem implements Problem {
+
+    private final URI type;
+    private final String title;
+    private final StatusType status;
+    private final String detail;
+    private final URI instance;
+    private final Map<String, Object> parameters;
+
+}
@@ -0,0 +1,16 @@
+package com.bomdestino.sgm.exception.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A custom exception to use when the request deadline has passed, the remaining work is abandoned.
+ */
+@ResponseStatus(code = HttpStatus.GATEWAY_TIMEOUT)
+public class DeadlineExceededException extends StacklessException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+}
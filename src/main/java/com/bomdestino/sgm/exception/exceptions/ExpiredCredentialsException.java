@@ -8,7 +8,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * A custom exception to use when a valid user must update their password.
  */
 @ResponseStatus(code = HttpStatus.FORBIDDEN)
-public class ExpiredCredentialsException extends RuntimeException {
+public class ExpiredCredentialsException extends StacklessException {
 
     public ExpiredCredentialsException(String message) {
         super(message);
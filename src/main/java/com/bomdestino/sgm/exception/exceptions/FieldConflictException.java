@@ -7,7 +7,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * A custom exception to use when to happen a bad request error because of an entity field problem.
  */
 @ResponseStatus(HttpStatus.BAD_REQUEST)
-public class FieldConflictException extends RuntimeException {
+public class FieldConflictException extends StacklessException {
 
     public FieldConflictException(String message) {
         super(message);
@@ -0,0 +1,29 @@
+package com.bomdestino.sgm.exception.exceptions;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the *application.exceptions.capture-stack-trace* toggle of the business exceptions.
+ * <p>
+ * The business exceptions are thrown on routine paths, like a wrong password or a duplicated name, so by default
+ * they don't capture the stack trace. It can be turned on to debug where they are thrown.
+ */
+@Component
+public class StackTraceCapture {
+
+    private static volatile boolean enabled = false;
+
+    public StackTraceCapture(@Value("${application.exceptions.capture-stack-trace:false}") boolean enabled) {
+        setEnabled(enabled);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        StackTraceCapture.enabled = enabled;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.bomdestino.sgm.exception.exceptions;
+
+/**
+ * Base class of the business exceptions, it only captures the stack trace when {@link StackTraceCapture} is enabled.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    protected StacklessException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTraceCapture.isEnabled() ? super.fillInStackTrace() : this;
+    }
+
+}
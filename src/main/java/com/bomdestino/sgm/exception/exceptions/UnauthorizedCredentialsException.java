@@ -7,7 +7,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * A custom exception to use when to happen any error because of the user credentials.
  */
 @ResponseStatus(code = HttpStatus.UNAUTHORIZED)
-public class UnauthorizedCredentialsException extends RuntimeException {
+public class UnauthorizedCredentialsException extends StacklessException {
 
     public UnauthorizedCredentialsException(String message) {
         super(message);
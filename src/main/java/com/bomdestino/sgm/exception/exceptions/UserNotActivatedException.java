@@ -13,4 +13,9 @@ public class UserNotActivatedException extends AuthenticationException {
         super(message);
     }
 
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTraceCapture.isEnabled() ? super.fillInStackTrace() : this;
+    }
+
 }
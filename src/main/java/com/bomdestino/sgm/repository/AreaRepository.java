@@ -6,8 +6,11 @@ import org.checkerframework.checker.units.qual.A;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Spring Data JPA repository for the {@link Area} entity.
  */
@@ -18,4 +21,9 @@ public interface AreaRepository extends JpaRepository<Area, Long> {
 
     Page<Area> findAllByActivatedIsTrue(Pageable pageable);
 
+    List<Area> findAllByActivatedIsTrue();
+
+    @Query("select a.id from Area a")
+    List<Long> findAllIds();
+
 }
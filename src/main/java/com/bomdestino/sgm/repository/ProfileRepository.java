@@ -4,8 +4,15 @@ import com.bomdestino.sgm.domain.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,10 +23,45 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
 
     Profile findByNameIgnoreCase(String name);
 
-    Optional<Profile> findProfileByNameIgnoreCase(String name);
+    @Query("select p.id as id, p.rolesVersion as rolesVersion from Profile p")
+    List<RolesVersion> findAllRolesVersions();
+
+    /**
+     * Get the roles version of a profile from the primary database, it's read right after a remote change is
+     * received, when a lagging read replica may still hold the previous version.
+     */
+    @Transactional
+    @Query("select p.rolesVersion from Profile p where p.id = :id")
+    Optional<Long> findRolesVersionById(@Param("id") Long id);
 
     Page<Profile> findAllByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<Profile> findAllByActivatedIsTrue(Pageable pageable);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Profile p set p.activated = :activated, p.lastModifiedBy = :auditor, p.lastModifiedDate = :now " +
+            "where p.id in :ids and p.onlyRead = false and p.activated <> :activated")
+    int updateActivatedByIds(@Param("ids") Collection<Long> ids, @Param("activated") boolean activated,
+                             @Param("auditor") String auditor, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Profile p set p.activated = case when p.activated = true then false else true end, " +
+            "p.lastModifiedBy = :auditor, p.lastModifiedDate = :now where p.id = :id and p.onlyRead = false")
+    int toggleActivatedById(@Param("id") Long id, @Param("auditor") String auditor, @Param("now") Instant now);
+
+    @Query("select p.id from Profile p where p.id in :ids and p.lastModifiedBy = :auditor and p.lastModifiedDate = :now")
+    List<Long> findIdsModifiedAt(@Param("ids") Collection<Long> ids, @Param("auditor") String auditor,
+                                 @Param("now") Instant now);
+
+    /**
+     * Projection with the roles version of a profile.
+     */
+    interface RolesVersion {
+
+        Long getId();
+
+        long getRolesVersion();
+
+    }
+
 }
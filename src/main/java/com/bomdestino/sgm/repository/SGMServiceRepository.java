@@ -4,10 +4,16 @@ import com.bomdestino.sgm.domain.Area;
 import com.bomdestino.sgm.domain.SGMService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Spring Data JPA repository for the {@link SGMService} entity.
@@ -17,10 +23,26 @@ public interface SGMServiceRepository extends JpaRepository<SGMService, Long> {
 
     SGMService findByNameIgnoreCase(String name);
 
-    Optional<SGMService> findSGMServiceByNameIgnoreCase(String name);
-
     Page<SGMService> findAllByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<SGMService> findAllByAreasContainingAndActivatedIsTrue(Area area, Pageable pageable);
 
+    @EntityGraph(attributePaths = "areas")
+    List<SGMService> findAllByActivatedIsTrue();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update SGMService s set s.activated = :activated, s.lastModifiedBy = :auditor, s.lastModifiedDate = :now " +
+            "where s.id in :ids and s.activated <> :activated")
+    int updateActivatedByIds(@Param("ids") Collection<Long> ids, @Param("activated") boolean activated,
+                             @Param("auditor") String auditor, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update SGMService s set s.activated = case when s.activated = true then false else true end, " +
+            "s.lastModifiedBy = :auditor, s.lastModifiedDate = :now where s.id = :id")
+    int toggleActivatedById(@Param("id") Long id, @Param("auditor") String auditor, @Param("now") Instant now);
+
+    @Query("select s.id from SGMService s where s.id in :ids and s.lastModifiedBy = :auditor and s.lastModifiedDate = :now")
+    List<Long> findIdsModifiedAt(@Param("ids") Collection<Long> ids, @Param("auditor") String auditor,
+                                 @Param("now") Instant now);
+
 }
@@ -4,8 +4,14 @@ import com.bomdestino.sgm.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,6 +26,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Page<User> findAllBySuperUserIsFalse(Pageable pageable);
 
+    @Query("select u.username from User u where u.activated = false")
+    List<String> findAllDeactivatedUsernames();
+
     Page<User> findAllByNameContainingIgnoreCaseAndSuperUserIsFalse(String name, Pageable pageable);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.activated = :activated, u.lastModifiedBy = :auditor, u.lastModifiedDate = :now " +
+            "where u.id in :ids and u.superUser = false and u.activated <> :activated")
+    int updateActivatedByIds(@Param("ids") Collection<Long> ids, @Param("activated") boolean activated,
+                             @Param("auditor") String auditor, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.blocked = false, u.logonAttemptCounts = 0, u.lastLogonAttemptDate = :now, " +
+            "u.lastModifiedBy = :auditor, u.lastModifiedDate = :now " +
+            "where u.id in :ids and u.superUser = false and u.blocked = true")
+    int unblockByIds(@Param("ids") Collection<Long> ids, @Param("auditor") String auditor, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.activated = case when u.activated = true then false else true end, " +
+            "u.lastModifiedBy = :auditor, u.lastModifiedDate = :now " +
+            "where u.id = :id and u.superUser = false and u.blocked = false")
+    int toggleActivatedById(@Param("id") Long id, @Param("auditor") String auditor, @Param("now") Instant now);
+
+    @Query("select u.id from User u where u.id in :ids and u.lastModifiedBy = :auditor and u.lastModifiedDate = :now")
+    List<Long> findIdsModifiedAt(@Param("ids") Collection<Long> ids, @Param("auditor") String auditor,
+                                 @Param("now") Instant now);
+
 }
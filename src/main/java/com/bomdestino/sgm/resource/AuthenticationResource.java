@@ -10,6 +10,7 @@ import com.bomdestino.sgm.service.UserService;
 import com.bomdestino.sgm.util.Translator;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,7 +20,10 @@ import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import static com.bomdestino.sgm.config.AsyncConfig.AUTH_EXECUTOR;
 import static com.bomdestino.sgm.util.EndpointConstants.AUTHENTICATE_URL;
 import static com.bomdestino.sgm.util.EndpointConstants.REFRESH_AUTHENTICATE_URL;
 import static com.bomdestino.sgm.util.TranslateConstants.BAD_CREDENTIALS_MESSAGE;
@@ -27,6 +31,9 @@ import static com.bomdestino.sgm.util.TranslateConstants.LOGON_ATTEMPTS_EXCEEDED
 
 /**
  * REST controller for managing the Spring authentication process.
+ * <p>
+ * The database and BCrypt work runs on the authentication executor, so the Tomcat request threads are released while
+ * it runs and the login concurrency is sized apart from the HTTP concurrency.
  */
 @Log4j2
 @AllArgsConstructor
@@ -38,6 +45,9 @@ public class AuthenticationResource {
     private final UserService userService;
     private final AuthenticationService authenticationService;
 
+    @Qualifier(AUTH_EXECUTOR)
+    private final Executor authExecutor;
+
     /**
      * {@code POST  /authenticate} : authenticate the user credentials to create a new security token.
      *
@@ -47,16 +57,8 @@ public class AuthenticationResource {
      * @throws UnauthorizedCredentialsException if the user credentials are invalid.
      */
     @PostMapping
-    public ResponseEntity<LoginResponseDTO> authorize(@Valid @RequestBody LoginRequestDTO dto) {
-        try {
-            return this.authenticationService.authorize(dto);
-        } catch (BadCredentialsException badCredentialsEx) {
-            if (Boolean.TRUE.equals(userService.registerLogonAttemptWithBadCredentials(dto.getUsername()))) {
-                throw new BusinessRuleException(translator.translate(LOGON_ATTEMPTS_EXCEEDED_MESSAGE));
-            } else {
-                throw new UnauthorizedCredentialsException(translator.translate(BAD_CREDENTIALS_MESSAGE));
-            }
-        }
+    public CompletableFuture<ResponseEntity<LoginResponseDTO>> authorize(@Valid @RequestBody LoginRequestDTO dto) {
+        return CompletableFuture.supplyAsync(() -> authenticate(dto), authExecutor);
     }
 
     /**
@@ -67,8 +69,27 @@ public class AuthenticationResource {
      * @return the {@link ResponseEntity<LoginResponseDTO>} with the new security tokens.
      */
     @PostMapping(REFRESH_AUTHENTICATE_URL)
-    public ResponseEntity<LoginResponseDTO> refreshToken(@Valid @RequestBody RefreshTokenRequestDTO dto, HttpServletResponse response) {
-        return this.authenticationService.refreshToken(dto, response);
+    public CompletableFuture<ResponseEntity<LoginResponseDTO>> refreshToken(@Valid @RequestBody RefreshTokenRequestDTO dto,
+                                                                            HttpServletResponse response) {
+        if (!authenticationService.validateRefreshToken(dto, response)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> authenticationService.refreshToken(dto), authExecutor);
+    }
+
+    /**
+     * Authenticate the user credentials, registering the failed attempts.
+     */
+    private ResponseEntity<LoginResponseDTO> authenticate(LoginRequestDTO dto) {
+        try {
+            return this.authenticationService.authorize(dto);
+        } catch (BadCredentialsException badCredentialsEx) {
+            if (Boolean.TRUE.equals(userService.registerLogonAttemptWithBadCredentials(dto.getUsername()))) {
+                throw new BusinessRuleException(translator.translate(LOGON_ATTEMPTS_EXCEEDED_MESSAGE));
+            } else {
+                throw new UnauthorizedCredentialsException(translator.translate(BAD_CREDENTIALS_MESSAGE));
+            }
+        }
     }
 
 }
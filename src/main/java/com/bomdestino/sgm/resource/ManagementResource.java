@@ -0,0 +1,65 @@
+package com.bomdestino.sgm.resource;
+
+import com.bomdestino.sgm.dto.BulkheadStatsDTO;
+import com.bomdestino.sgm.dto.LimiterStatsDTO;
+import com.bomdestino.sgm.dto.SloReportDTO;
+import com.bomdestino.sgm.service.ManagementService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static com.bomdestino.sgm.util.Authorities.AUDITOR;
+import static com.bomdestino.sgm.util.EndpointConstants.BULKHEADS_URL;
+import static com.bomdestino.sgm.util.EndpointConstants.LIMITER_URL;
+import static com.bomdestino.sgm.util.EndpointConstants.MANAGEMENT_URL;
+import static com.bomdestino.sgm.util.EndpointConstants.SLO_URL;
+
+/**
+ * REST controller to provide the runtime state of the application.
+ */
+@AllArgsConstructor
+@RestController
+@RequestMapping(MANAGEMENT_URL)
+public class ManagementResource {
+
+    private final ManagementService managementService;
+
+    /**
+     * {@code GET  /management/bulkheads} : get the saturation of the workload bulkheads.
+     *
+     * @return a list of {@link BulkheadStatsDTO} with the state of each bulkhead.
+     */
+    @GetMapping(BULKHEADS_URL)
+    @Secured(AUDITOR)
+    public ResponseEntity<List<BulkheadStatsDTO>> getBulkheadStats() {
+        return ResponseEntity.ok(managementService.getBulkheadStats());
+    }
+
+    /**
+     * {@code GET  /management/limiter} : get the state of the adaptive concurrency limiter.
+     *
+     * @return the {@link LimiterStatsDTO} with the limit, the in-flight and the shed requests.
+     */
+    @GetMapping(LIMITER_URL)
+    @Secured(AUDITOR)
+    public ResponseEntity<LimiterStatsDTO> getLimiterStats() {
+        return ResponseEntity.ok(managementService.getLimiterStats());
+    }
+
+    /**
+     * {@code GET  /management/slo} : get the latency percentiles and the SLO breach rate of each endpoint.
+     *
+     * @return a list of {@link SloReportDTO} with the percentiles of the sliding window, the slowest first.
+     */
+    @GetMapping(SLO_URL)
+    @Secured(AUDITOR)
+    public ResponseEntity<List<SloReportDTO>> getSloReport() {
+        return ResponseEntity.ok(managementService.getSloReport());
+    }
+
+}
@@ -3,6 +3,8 @@ package com.bomdestino.sgm.resource;
 import com.bomdestino.sgm.config.security.auth.SGMRole;
 import com.bomdestino.sgm.domain.Profile;
 import com.bomdestino.sgm.dto.AbstractListDTO;
+import com.bomdestino.sgm.dto.BulkStatusRequestDTO;
+import com.bomdestino.sgm.dto.BulkStatusResponseDTO;
 import com.bomdestino.sgm.dto.ProfileListResponseDTO;
 import com.bomdestino.sgm.dto.ProfileRequestDTO;
 import com.bomdestino.sgm.dto.ProfileResponseDTO;
@@ -116,6 +118,30 @@ public class ProfileResource {
         return ResponseEntity.ok().location(ResponseUtils.toURI(profile.getId())).build();
     }
 
+    /**
+     * {@code PATCH /profiles/activate} : activate a set of Profiles.
+     *
+     * @param dto it's the dto containing the ids of the profiles to be activated.
+     * @return the ResponseEntity with status 200 (OK) and the affected and skipped ids.
+     */
+    @PatchMapping(PARAMS_ACTIVATE)
+    @Secured(PROFILE_MANAGEMENT)
+    public ResponseEntity<BulkStatusResponseDTO> activateProfiles(@Valid @RequestBody BulkStatusRequestDTO dto) {
+        return ResponseEntity.ok(profileService.updateActivatedStatus(dto.getIds(), true));
+    }
+
+    /**
+     * {@code PATCH /profiles/deactivate} : deactivate a set of Profiles.
+     *
+     * @param dto it's the dto containing the ids of the profiles to be deactivated.
+     * @return the ResponseEntity with status 200 (OK) and the affected and skipped ids.
+     */
+    @PatchMapping(PARAMS_DEACTIVATE)
+    @Secured(PROFILE_MANAGEMENT)
+    public ResponseEntity<BulkStatusResponseDTO> deactivateProfiles(@Valid @RequestBody BulkStatusRequestDTO dto) {
+        return ResponseEntity.ok(profileService.updateActivatedStatus(dto.getIds(), false));
+    }
+
     /**
      * {@code GET /roles} : get all roles from the system.
      *
@@ -113,4 +113,28 @@ public class SGMServiceResource {
         return ResponseEntity.ok().location(ResponseUtils.toURI(service.getId())).build();
     }
 
+    /**
+     * {@code PATCH /services/activate} : activate a set of SGMServices.
+     *
+     * @param dto it's the dto containing the ids of the sgmservices to be activated.
+     * @return the ResponseEntity with status 200 (OK) and the affected and skipped ids.
+     */
+    @PatchMapping(PARAMS_ACTIVATE)
+    @Secured(SERVICE_MANAGEMENT)
+    public ResponseEntity<BulkStatusResponseDTO> activateServices(@Valid @RequestBody BulkStatusRequestDTO dto) {
+        return ResponseEntity.ok(sgmServicesService.updateActivatedStatus(dto.getIds(), true));
+    }
+
+    /**
+     * {@code PATCH /services/deactivate} : deactivate a set of SGMServices.
+     *
+     * @param dto it's the dto containing the ids of the sgmservices to be deactivated.
+     * @return the ResponseEntity with status 200 (OK) and the affected and skipped ids.
+     */
+    @PatchMapping(PARAMS_DEACTIVATE)
+    @Secured(SERVICE_MANAGEMENT)
+    public ResponseEntity<BulkStatusResponseDTO> deactivateServices(@Valid @RequestBody BulkStatusRequestDTO dto) {
+        return ResponseEntity.ok(sgmServicesService.updateActivatedStatus(dto.getIds(), false));
+    }
+
 }
@@ -1,6 +1,8 @@
 package com.bomdestino.sgm.resource;
 
 import com.bomdestino.sgm.domain.User;
+import com.bomdestino.sgm.dto.BulkStatusRequestDTO;
+import com.bomdestino.sgm.dto.BulkStatusResponseDTO;
 import com.bomdestino.sgm.dto.UserListResponseDTO;
 import com.bomdestino.sgm.dto.UserRequestDTO;
 import com.bomdestino.sgm.dto.UserResponseDTO;
@@ -103,4 +105,40 @@ public class UserResource {
         return ResponseEntity.ok().location(ResponseUtils.toURI(user.getId())).build();
     }
 
+    /**
+     * {@code PATCH /users/activate} : activate a set of Users.
+     *
+     * @param dto it's the dto containing the ids of the users to be activated.
+     * @return the ResponseEntity with status 200 (OK) and the affected and skipped ids.
+     */
+    @PatchMapping(PARAMS_ACTIVATE)
+    @Secured(USER_MANAGEMENT)
+    public ResponseEntity<BulkStatusResponseDTO> activateUsers(@Valid @RequestBody BulkStatusRequestDTO dto) {
+        return ResponseEntity.ok(userService.updateActivatedStatus(dto.getIds(), true));
+    }
+
+    /**
+     * {@code PATCH /users/deactivate} : deactivate a set of Users.
+     *
+     * @param dto it's the dto containing the ids of the users to be deactivated.
+     * @return the ResponseEntity with status 200 (OK) and the affected and skipped ids.
+     */
+    @PatchMapping(PARAMS_DEACTIVATE)
+    @Secured(USER_MANAGEMENT)
+    public ResponseEntity<BulkStatusResponseDTO> deactivateUsers(@Valid @RequestBody BulkStatusRequestDTO dto) {
+        return ResponseEntity.ok(userService.updateActivatedStatus(dto.getIds(), false));
+    }
+
+    /**
+     * {@code PATCH /users/unblock} : unblock a set of Users.
+     *
+     * @param dto it's the dto containing the ids of the users to be unblocked.
+     * @return the ResponseEntity with status 200 (OK) and the affected and skipped ids.
+     */
+    @PatchMapping(PARAMS_UNBLOCK)
+    @Secured(USER_MANAGEMENT)
+    public ResponseEntity<BulkStatusResponseDTO> unblockUsers(@Valid @RequestBody BulkStatusRequestDTO dto) {
+        return ResponseEntity.ok(userService.unblockUsers(dto.getIds()));
+    }
+
 }
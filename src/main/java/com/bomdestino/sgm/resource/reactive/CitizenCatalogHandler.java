@@ -0,0 +1,153 @@
+package com.bomdestino.sgm.resource.reactive;
+
+import com.bomdestino.sgm.config.security.jwt.ReactiveJwtFilter;
+import com.bomdestino.sgm.exception.exceptions.NotFoundException;
+import com.bomdestino.sgm.service.CitizenCatalogService;
+import com.bomdestino.sgm.service.UserService;
+import com.bomdestino.sgm.util.Translator;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.zalando.problem.Problem;
+import org.zalando.problem.Status;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Locale;
+
+import static com.bomdestino.sgm.util.Authorities.*;
+import static com.bomdestino.sgm.util.EndpointConstants.*;
+import static com.bomdestino.sgm.util.TranslateConstants.NOT_FOUND_MESSAGE;
+import static com.bomdestino.sgm.util.TranslateConstants.USER_ENTITY;
+
+/**
+ * Non-blocking handlers of the citizen catalog, served by the reactive server.
+ * <p>
+ * The routes and the responses are the same of {@link com.bomdestino.sgm.resource.AreaResource},
+ * {@link com.bomdestino.sgm.resource.SGMServiceResource} and {@link com.bomdestino.sgm.resource.AccountResource}. The
+ * catalog comes from the {@link CitizenCatalogService} snapshot, always sorted by *name*. The account is the only read
+ * from the database, it runs on the bounded elastic scheduler.
+ */
+@AllArgsConstructor
+@Component
+@ConditionalOnProperty(name = "application.reactive-catalog.enabled", havingValue = "true")
+public class CitizenCatalogHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 2000;
+    private static final String PAGE_PARAM = "page";
+    private static final String SIZE_PARAM = "size";
+    private static final String SORT_PARAM = "sort";
+    private static final String NAME_PROPERTY = "name";
+    private static final String ID_VARIABLE = "id";
+    private static final String ERROR_KEY = "errorKey";
+    private static final String MESSAGE_KEY = "message";
+    private static final String PATH_KEY = "path";
+
+    private final Translator translator;
+    private final UserService userService;
+    private final ReactiveJwtFilter reactiveJwtFilter;
+    private final CitizenCatalogService citizenCatalogService;
+
+    /**
+     * Create the routes of the citizen catalog, with the same authorities of the servlet resources.
+     *
+     * @return the {@link RouterFunction} of the citizen catalog.
+     */
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET(AREA_URL + PARAMS_ACTIVATED, this::getAllActivatedAreas,
+                        ops -> ops.filter(reactiveJwtFilter.requireAnyAuthority(AUDITOR, SERVICE_MANAGEMENT)))
+                .GET(SERVICE_URL + PARAMS_ACTIVATED + PARAMS_ID, this::getAllActivatedServices,
+                        ops -> ops.filter(reactiveJwtFilter.requireAnyAuthority(AUDITOR, VIEW_CITIZEN_SERVICES, VIEW_HEALTH_SERVICES)))
+                .GET(ACCOUNT_URL, this::getAccount,
+                        ops -> ops.filter(reactiveJwtFilter.requireAnyAuthority()))
+                .build();
+    }
+
+    /**
+     * {@code GET  /areas/activated} : get all activated areas from the snapshot.
+     */
+    public Mono<ServerResponse> getAllActivatedAreas(ServerRequest request) {
+        Pageable pageable;
+        try {
+            pageable = toPageable(request);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        return ok(citizenCatalogService.getAllActivatedAreas(pageable));
+    }
+
+    /**
+     * {@code GET  /services/activated/:id} : get all activated services of an area from the snapshot.
+     */
+    public Mono<ServerResponse> getAllActivatedServices(ServerRequest request) {
+        Long areaId;
+        Pageable pageable;
+        try {
+            areaId = Long.valueOf(request.pathVariable(ID_VARIABLE));
+            pageable = toPageable(request);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        try {
+            return ok(citizenCatalogService.getAllActivatedServices(areaId, pageable));
+        } catch (NotFoundException e) {
+            return notFound(request, e.getMessage());
+        }
+    }
+
+    /**
+     * {@code GET  /account} : get the current logged user data, with the authorities of its token.
+     */
+    public Mono<ServerResponse> getAccount(ServerRequest request) {
+        Authentication authentication = (Authentication) request.attributes().get(ReactiveJwtFilter.AUTHENTICATION_ATTRIBUTE);
+        return Mono.fromCallable(() -> userService.getAccount(authentication))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::ok)
+                .onErrorResume(UsernameNotFoundException.class, e -> notFound(request, USER_ENTITY));
+    }
+
+    private Mono<ServerResponse> ok(Object body) {
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+
+    private Mono<ServerResponse> notFound(ServerRequest request, String key) {
+        String message = String.format(translator.translate(NOT_FOUND_MESSAGE), translator.translate(key));
+        return ServerResponse.status(Status.NOT_FOUND.getStatusCode())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .bodyValue(Problem.builder()
+                        .withStatus(Status.NOT_FOUND)
+                        .withTitle(Status.NOT_FOUND.getReasonPhrase())
+                        .withDetail(message)
+                        .with(ERROR_KEY, key)
+                        .with(MESSAGE_KEY, message)
+                        .with(PATH_KEY, request.path())
+                        .build());
+    }
+
+    /**
+     * Read the page configuration from the same query parameters of the Spring Data resolver.
+     */
+    private static Pageable toPageable(ServerRequest request) {
+        int page = request.queryParam(PAGE_PARAM).map(Integer::parseInt).map(value -> Math.max(value, 0)).orElse(0);
+        int size = request.queryParam(SIZE_PARAM).map(Integer::parseInt)
+                .map(value -> Math.min(Math.max(value, 1), MAX_PAGE_SIZE)).orElse(DEFAULT_PAGE_SIZE);
+        Sort.Direction direction = request.queryParam(SORT_PARAM)
+                .filter(sort -> sort.toLowerCase(Locale.ROOT).endsWith(",desc"))
+                .map(sort -> Sort.Direction.DESC)
+                .orElse(Sort.Direction.ASC);
+        return PageRequest.of(page, size, Sort.by(direction, NAME_PROPERTY));
+    }
+
+}
@@ -11,6 +11,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static com.bomdestino.sgm.util.TranslateConstants.AREA_ENTITY;
 
 /**
@@ -31,16 +36,38 @@ public class AreaService {
      * @return the {@link Area} from the database.
      * @throws NotFoundException if the area doesn't exist in the database.
      */
+    @Transactional(readOnly = true)
     public Area getAreaById(Long id) {
         return areaRepository.findById(id).orElseThrow(() -> new NotFoundException(AREA_ENTITY));
     }
 
+    /**
+     * Get a set of {@link Area} by their ids with a single query.
+     *
+     * @param ids it's the ids of the areas to be found.
+     * @return the {@link Area} set from the database.
+     * @throws NotFoundException if any of the areas doesn't exist in the database.
+     */
+    @Transactional(readOnly = true)
+    public Set<Area> getAreasByIds(Collection<Long> ids) {
+        Set<Long> distinctIds = new HashSet<>(ids);
+        if (distinctIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<Area> areas = areaRepository.findAllById(distinctIds);
+        if (areas.size() != distinctIds.size()) {
+            throw new NotFoundException(AREA_ENTITY);
+        }
+        return new HashSet<>(areas);
+    }
+
     /**
      * Get all activated areas from the database.
      *
      * @param pageable it's the page configuration.
      * @return a page with a list of {@link AbstractListDTO} and some pagination information.
      */
+    @Transactional(readOnly = true)
     public Page<AbstractListDTO> getAllActivatedAreas(Pageable pageable) {
         return areaRepository.findAllByActivatedIsTrue(pageable)
                 .map(area -> new AbstractListDTO(area.getId(), area.getName(), area.isActivated()));
@@ -1,5 +1,9 @@
 package com.bomdestino.sgm.service;
 
+import com.bomdestino.sgm.config.jfr.LoginEvent;
+import com.bomdestino.sgm.config.metrics.SGMMetrics;
+import com.bomdestino.sgm.config.metrics.SGMMetrics.LoginPhase;
+import com.bomdestino.sgm.config.metrics.SGMMetrics.Outcome;
 import com.bomdestino.sgm.config.security.jwt.TokenProvider;
 import com.bomdestino.sgm.dto.LoginRequestDTO;
 import com.bomdestino.sgm.dto.LoginResponseDTO;
@@ -33,37 +37,58 @@ public class AuthenticationService {
     private final UserService userService;
     private final TokenProvider tokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final SGMMetrics metrics;
 
     /**
      * Validate the user credentials and get a security token from it.
+     * <p>
+     * The whole login is timed by outcome, the user lookup and the BCrypt check are timed by their own components and
+     * the token signing here. A {@link LoginEvent} is recorded for the flight recordings.
      *
      * @param dto it's the authentication object with username and password.
      * @return the {@link ResponseEntity< LoginResponseDTO >} with the new user token.
      */
     public ResponseEntity<LoginResponseDTO> authorize(LoginRequestDTO dto) {
-        userService.verifyUserCredentials(dto.getUsername());
-        UsernamePasswordAuthenticationToken authenticationToken =
-                new UsernamePasswordAuthenticationToken(dto.getUsername(), dto.getPassword());
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
-        userService.resetBadLoginAttempts(dto.getUsername());
-        return authorizeUser(authentication);
+        long start = System.nanoTime();
+        LoginEvent event = LoginEvent.start();
+        Outcome outcome = Outcome.FAILURE;
+        try {
+            userService.verifyUserCredentials(dto.getUsername());
+            UsernamePasswordAuthenticationToken authenticationToken =
+                    new UsernamePasswordAuthenticationToken(dto.getUsername(), dto.getPassword());
+            Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+            userService.resetBadLoginAttempts(dto.getUsername());
+            ResponseEntity<LoginResponseDTO> response = authorizeUser(authentication);
+            outcome = Outcome.SUCCESS;
+            return response;
+        } finally {
+            metrics.recordLogin(outcome, start);
+            event.finish(dto.getUsername(), outcome);
+        }
     }
 
     /**
-     * Generate a new access token based on the provided refresh token.
+     * Validate the provided refresh token, the error is written in the response if it's expired.
      *
      * @param dto      it's the dto containing the refresh token.
      * @param response it's the response object injected by Spring.
+     * @return true if the refresh token is valid or false otherwise.
+     */
+    public boolean validateRefreshToken(RefreshTokenRequestDTO dto, HttpServletResponse response) {
+        return tokenProvider.validateRefreshToken(dto.getRefreshToken(), response);
+    }
+
+    /**
+     * Generate a new access token based on the provided refresh token, already validated.
+     *
+     * @param dto it's the dto containing the refresh token.
      * @return the {@link LoginResponseDTO} with the new security tokens.
      */
-    public ResponseEntity<LoginResponseDTO> refreshToken(RefreshTokenRequestDTO dto, HttpServletResponse response) {
-        if (tokenProvider.validateRefreshToken(dto.getRefreshToken(), response)) {
-            String accessToken = tokenProvider.createAccessToken(dto.getRefreshToken());
-            HttpHeaders httpHeaders = new HttpHeaders();
-            httpHeaders.add(AUTHORIZATION_HEADER, BEARER_TOKEN + accessToken);
-            return new ResponseEntity<>(new LoginResponseDTO(accessToken, dto.getRefreshToken()), httpHeaders, HttpStatus.OK);
-        }
-        return null;
+    public ResponseEntity<LoginResponseDTO> refreshToken(RefreshTokenRequestDTO dto) {
+        String accessToken = tokenProvider.createAccessToken(dto.getRefreshToken());
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(AUTHORIZATION_HEADER, BEARER_TOKEN + accessToken);
+        return new ResponseEntity<>(new LoginResponseDTO(accessToken, dto.getRefreshToken()), httpHeaders, HttpStatus.OK);
     }
 
     /**
@@ -74,8 +99,10 @@ public class AuthenticationService {
      */
     private ResponseEntity<LoginResponseDTO> authorizeUser(Authentication authentication) {
         SecurityContextHolder.getContext().setAuthentication(authentication);
+        long start = System.nanoTime();
         String accessToken = tokenProvider.createAccessToken(authentication);
         String refreshToken = tokenProvider.createRefreshToken(authentication);
+        metrics.recordLoginPhase(LoginPhase.TOKEN, start);
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.add(AUTHORIZATION_HEADER, BEARER_TOKEN + accessToken);
         return new ResponseEntity<>(new LoginResponseDTO(accessToken, refreshToken), httpHeaders, HttpStatus.OK);
@@ -0,0 +1,216 @@
+package com.bomdestino.sgm.service;
+
+import com.bomdestino.sgm.config.invalidation.InvalidationBus;
+import com.bomdestino.sgm.config.invalidation.InvalidationEntity;
+import com.bomdestino.sgm.config.invalidation.InvalidationEvent;
+import com.bomdestino.sgm.config.jfr.CacheRebuildEvent;
+import com.bomdestino.sgm.config.metrics.SGMMetrics;
+import com.bomdestino.sgm.domain.Area;
+import com.bomdestino.sgm.domain.SGMService;
+import com.bomdestino.sgm.dto.AbstractListDTO;
+import com.bomdestino.sgm.dto.ServiceCardResponseDTO;
+import com.bomdestino.sgm.exception.exceptions.NotFoundException;
+import com.bomdestino.sgm.repository.AreaRepository;
+import com.bomdestino.sgm.repository.SGMServiceRepository;
+import com.bomdestino.sgm.repository.UserRepository;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.bomdestino.sgm.util.TranslateConstants.AREA_ENTITY;
+
+/**
+ * Service class for the in-memory snapshot of the citizen catalog, the activated areas and services.
+ * <p>
+ * The reads never touch the database. The snapshot is loaded when the application is ready, after the initial data,
+ * and rebuilt in background when a service change is published on the {@link InvalidationBus}, a burst of changes is
+ * coalesced into a single rebuild. The deactivated usernames are kept the same way, so the access tokens can be
+ * validated without a query per request. It only serves the reactive server, so it's only created with it, on
+ * *application.reactive-catalog.enabled*.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.reactive-catalog.enabled", havingValue = "true")
+public class CitizenCatalogService implements DisposableBean {
+
+    private static final String NAME_PROPERTY = "name";
+    private static final String CATALOG_CACHE = "citizen-catalog";
+    private static final String DEACTIVATED_USERS_CACHE = "deactivated-users";
+    private static final Comparator<String> NAME_ORDER = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER);
+
+    private final AreaRepository areaRepository;
+    private final SGMServiceRepository sgmServiceRepository;
+    private final UserRepository userRepository;
+    private final InvalidationBus invalidationBus;
+    private final SGMMetrics metrics;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("catalog-"));
+    private final AtomicBoolean catalogRebuildPending = new AtomicBoolean();
+    private final AtomicBoolean usersRebuildPending = new AtomicBoolean();
+
+    private volatile CatalogSnapshot catalog;
+    private volatile Set<String> deactivatedUsernames;
+
+    /**
+     * Load the snapshot before the listeners that serve it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void load() {
+        rebuildCatalog();
+        rebuildDeactivatedUsernames();
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public void destroy() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Get a page of the activated areas, sorted by *name*.
+     *
+     * @param pageable it's the page configuration, only the *name* direction of its sort is considered.
+     * @return a page with a list of {@link AbstractListDTO} and some pagination information.
+     */
+    public Page<AbstractListDTO> getAllActivatedAreas(Pageable pageable) {
+        return toPage(catalog.getAreas(), pageable);
+    }
+
+    /**
+     * Get a page of the activated services of an area, sorted by *name*.
+     *
+     * @param areaId   it's the id of the area that the services belongs.
+     * @param pageable it's the page configuration, only the *name* direction of its sort is considered.
+     * @return a page with a list of {@link ServiceCardResponseDTO} and some pagination information.
+     * @throws NotFoundException if the area doesn't exist.
+     */
+    public Page<ServiceCardResponseDTO> getAllActivatedServices(Long areaId, Pageable pageable) {
+        CatalogSnapshot current = catalog;
+        if (!current.getAreaIds().contains(areaId)) {
+            throw new NotFoundException(AREA_ENTITY);
+        }
+        return toPage(current.getServicesByArea().getOrDefault(areaId, Collections.emptyList()), pageable);
+    }
+
+    /**
+     * Verify if the user is deactivated.
+     *
+     * @param username it's the username of the user.
+     * @return true if the user is deactivated or false otherwise.
+     */
+    public boolean isDeactivated(String username) {
+        return deactivatedUsernames.contains(username);
+    }
+
+    private void onInvalidation(InvalidationEvent event) {
+        if (event.getEntity() == InvalidationEntity.SERVICE) {
+            scheduleRebuild(catalogRebuildPending, this::rebuildCatalog);
+        } else if (event.getEntity() == InvalidationEntity.USER) {
+            scheduleRebuild(usersRebuildPending, this::rebuildDeactivatedUsernames);
+        }
+    }
+
+    private void scheduleRebuild(AtomicBoolean pending, Runnable rebuild) {
+        if (pending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                pending.set(false);
+                try {
+                    rebuild.run();
+                } catch (RuntimeException e) {
+                    log.error("Could not rebuild the citizen catalog snapshot", e);
+                }
+            });
+        }
+    }
+
+    private void rebuildCatalog() {
+        long start = System.nanoTime();
+        CacheRebuildEvent event = CacheRebuildEvent.start();
+        List<AbstractListDTO> areas = new ArrayList<>();
+        for (Area area : areaRepository.findAllByActivatedIsTrue()) {
+            areas.add(new AbstractListDTO(area.getId(), area.getName(), area.isActivated()));
+        }
+        areas.sort(Comparator.comparing(AbstractListDTO::getName, NAME_ORDER));
+
+        Map<Long, List<ServiceCardResponseDTO>> servicesByArea = new HashMap<>();
+        for (SGMService service : sgmServiceRepository.findAllByActivatedIsTrue()) {
+            ServiceCardResponseDTO card = new ServiceCardResponseDTO(service);
+            service.getAreas().forEach(area -> servicesByArea.computeIfAbsent(area.getId(), id -> new ArrayList<>()).add(card));
+        }
+        ImmutableMap.Builder<Long, List<ServiceCardResponseDTO>> sortedServices = ImmutableMap.builder();
+        servicesByArea.forEach((areaId, cards) -> {
+            cards.sort(Comparator.comparing(ServiceCardResponseDTO::getName, NAME_ORDER));
+            sortedServices.put(areaId, ImmutableList.copyOf(cards));
+        });
+
+        catalog = new CatalogSnapshot(ImmutableSet.copyOf(areaRepository.findAllIds()), ImmutableList.copyOf(areas),
+                sortedServices.build());
+        metrics.recordCacheRebuild(CATALOG_CACHE, start);
+        event.finish(CATALOG_CACHE, areas.size() + servicesByArea.values().stream().mapToLong(List::size).sum());
+        log.debug("Citizen catalog rebuilt: {} areas, {} areas with services", areas.size(), servicesByArea.size());
+    }
+
+    private void rebuildDeactivatedUsernames() {
+        long start = System.nanoTime();
+        CacheRebuildEvent event = CacheRebuildEvent.start();
+        Set<String> usernames = ImmutableSet.copyOf(userRepository.findAllDeactivatedUsernames());
+        deactivatedUsernames = usernames;
+        metrics.recordCacheRebuild(DEACTIVATED_USERS_CACHE, start);
+        event.finish(DEACTIVATED_USERS_CACHE, usernames.size());
+    }
+
+    private static <T> Page<T> toPage(List<T> sorted, Pageable pageable) {
+        List<T> ordered = sorted;
+        Sort.Order order = pageable.getSort().getOrderFor(NAME_PROPERTY);
+        if (order != null && order.isDescending()) {
+            ordered = ImmutableList.copyOf(sorted).reverse();
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(ordered, pageable, ordered.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        return new PageImpl<>(ordered.subList(from, to), pageable, ordered.size());
+    }
+
+    /**
+     * The immutable catalog, replaced as a whole on each rebuild.
+     */
+    @Value
+    private static class CatalogSnapshot {
+
+        Set<Long> areaIds;
+        List<AbstractListDTO> areas;
+        Map<Long, List<ServiceCardResponseDTO>> servicesByArea;
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.bomdestino.sgm.service;
+
+import com.bomdestino.sgm.config.bulkhead.BulkheadRegistry;
+import com.bomdestino.sgm.config.datasource.BulkheadRoutingDataSource;
+import com.bomdestino.sgm.config.limiter.AdaptiveConcurrencyLimiter;
+import com.bomdestino.sgm.config.limiter.LimiterProperties;
+import com.bomdestino.sgm.config.slo.SloRegistry;
+import com.bomdestino.sgm.dto.BulkheadStatsDTO;
+import com.bomdestino.sgm.dto.LimiterStatsDTO;
+import com.bomdestino.sgm.dto.SloReportDTO;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for the runtime state of the application, read by the operators.
+ */
+@Log4j2
+@Service
+@AllArgsConstructor
+public class ManagementService {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ObjectProvider<BulkheadRoutingDataSource> bulkheadRoutingDataSource;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final LimiterProperties limiterProperties;
+    private final SloRegistry sloRegistry;
+
+    /**
+     * Get the saturation of every bulkhead, with the connection pool in use by its group.
+     *
+     * @return a list of {@link BulkheadStatsDTO}, one per group.
+     */
+    public List<BulkheadStatsDTO> getBulkheadStats() {
+        BulkheadRoutingDataSource routing = bulkheadRoutingDataSource.getIfAvailable();
+        return bulkheadRegistry.getAll().stream()
+                .map(bulkhead -> {
+                    BulkheadStatsDTO stats = new BulkheadStatsDTO(bulkhead);
+                    if (routing != null) {
+                        routing.getPool(bulkhead.getGroup()).ifPresent(pool -> {
+                            stats.setActiveConnections(pool.getActiveConnections());
+                            stats.setIdleConnections(pool.getIdleConnections());
+                            stats.setThreadsAwaitingConnection(pool.getThreadsAwaitingConnection());
+                        });
+                    }
+                    return stats;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the learned concurrency limit, the in-flight requests and the shed requests by class.
+     *
+     * @return the {@link LimiterStatsDTO} with the state of the limiter.
+     */
+    public LimiterStatsDTO getLimiterStats() {
+        return new LimiterStatsDTO(limiter, limiterProperties.isEnabled());
+    }
+
+    /**
+     * Get the latency percentiles and the SLO breach rate of each handler over the sliding window, the slowest first.
+     *
+     * @return a list of {@link SloReportDTO}, empty if the tracking is disabled.
+     */
+    public List<SloReportDTO> getSloReport() {
+        return sloRegistry.getAll().stream()
+                .map(SloReportDTO::new)
+                .sorted(Comparator.comparingDouble(SloReportDTO::getP99).reversed())
+                .collect(Collectors.toList());
+    }
+
+}
@@ -1,13 +1,18 @@
 package com.bomdestino.sgm.service;
 
+import com.bomdestino.sgm.config.invalidation.InvalidationBus;
+import com.bomdestino.sgm.config.invalidation.InvalidationEntity;
+import com.bomdestino.sgm.config.security.auth.ProfileVersionRegistry;
+import com.bomdestino.sgm.config.security.auth.SGMRole;
 import com.bomdestino.sgm.domain.Profile;
 import com.bomdestino.sgm.dto.AbstractListDTO;
+import com.bomdestino.sgm.dto.BulkStatusResponseDTO;
 import com.bomdestino.sgm.dto.ProfileListResponseDTO;
 import com.bomdestino.sgm.dto.ProfileRequestDTO;
 import com.bomdestino.sgm.exception.exceptions.BusinessRuleException;
-import com.bomdestino.sgm.exception.exceptions.FieldConflictException;
 import com.bomdestino.sgm.exception.exceptions.NotFoundException;
 import com.bomdestino.sgm.repository.ProfileRepository;
+import com.bomdestino.sgm.util.SecurityUtils;
 import com.bomdestino.sgm.util.Translator;
 import com.google.common.base.Strings;
 import lombok.AllArgsConstructor;
@@ -18,8 +23,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 
 import static com.bomdestino.sgm.util.TranslateConstants.*;
 
@@ -34,6 +42,8 @@ public class ProfileService {
 
     private final Translator translator;
     private final ProfileRepository profileRepository;
+    private final ProfileVersionRegistry profileVersionRegistry;
+    private final InvalidationBus invalidationBus;
 
     /**
      * Get a {@link Profile} by id.
@@ -42,6 +52,7 @@ public class ProfileService {
      * @return the {@link Profile} from the database.
      * @throws NotFoundException if the profile doesn't exist in the database.
      */
+    @Transactional(readOnly = true)
     public Profile getProfileById(Long id) {
         return profileRepository.findById(id).orElseThrow(() -> new NotFoundException(PROFILE_ENTITY));
     }
@@ -56,6 +67,7 @@ public class ProfileService {
      * @param pageable it's the page configuration.
      * @return a page with a list of {@link ProfileListResponseDTO} and some pagination information.
      */
+    @Transactional(readOnly = true)
     public Page<ProfileListResponseDTO> getAllProfiles(String search, Pageable pageable) {
         Page<Profile> profilePage;
 
@@ -76,6 +88,7 @@ public class ProfileService {
      * @param pageable it's the page configuration.
      * @return a page with a list of {@link AbstractListDTO} and some pagination information.
      */
+    @Transactional(readOnly = true)
     public Page<AbstractListDTO> getAllActivatedProfiles(Pageable pageable) {
         return profileRepository.findAllByActivatedIsTrue(pageable)
                 .map(profile -> new AbstractListDTO(profile.getId(), profile.getName(), profile.isActivated()));
@@ -90,8 +103,9 @@ public class ProfileService {
     public Profile createProfile(ProfileRequestDTO profileDTO) {
         Profile profile = new Profile();
         BeanUtils.copyProperties(profileDTO, profile);
-        verifyProfileNameConflict(profileDTO.getName(), profileDTO.getId());
-        return profileRepository.save(profile);
+        profile = saveAndPublish(profile);
+        profileVersionRegistry.updateAfterCommit(profile.getId(), profile.getRolesVersion());
+        return profile;
     }
 
     /**
@@ -104,22 +118,60 @@ public class ProfileService {
     public Profile updateProfile(Long id, ProfileRequestDTO profileDTO) {
         Profile profile = getProfileById(id);
         checkIfTheProfileIsEditable(profile);
-        verifyProfileNameConflict(profileDTO.getName(), profileDTO.getId());
+        Set<SGMRole> previousRoles = profile.getRoles();
         BeanUtils.copyProperties(profileDTO, profile);
-        return profileRepository.save(profile);
+        if (!Objects.equals(previousRoles, profile.getRoles())) {
+            profile.setRolesVersion(profile.getRolesVersion() + 1);
+            profileVersionRegistry.updateAfterCommit(profile.getId(), profile.getRolesVersion());
+        }
+        return saveAndPublish(profile);
     }
 
     /**
-     * Update the {@link Profile} *activated* status.
+     * Update the {@link Profile} *activated* status with a guarded statement.
      *
      * @param id it's the id of the profile to be updated.
      * @return the {@link Profile} that has been updated.
      */
     public Profile logicalExclusion(Long id) {
-        Profile profile = getProfileById(id);
-        checkIfTheProfileIsEditable(profile);
-        profile.setActivated(!profile.isActivated());
-        return profileRepository.save(profile);
+        if (profileRepository.toggleActivatedById(id, SecurityUtils.getCurrentAuditor(), SecurityUtils.getAuditInstant()) == 0) {
+            checkIfTheProfileIsEditable(getProfileById(id));
+        }
+        invalidationBus.publish(InvalidationEntity.PROFILE, id);
+        return getProfileById(id);
+    }
+
+    /**
+     * Update the *activated* status of a set of {@link Profile} with a single statement.
+     * <p>
+     * The read only profiles, the missing ids and the profiles that already have the status are reported as skipped.
+     * The affected ids are the ones written by the statement, found by its audit columns in the same transaction.
+     *
+     * @param ids       it's the ids of the profiles to be updated.
+     * @param activated it's the new *activated* status.
+     * @return the {@link BulkStatusResponseDTO} with the affected and skipped ids.
+     */
+    public BulkStatusResponseDTO updateActivatedStatus(List<Long> ids, boolean activated) {
+        String auditor = SecurityUtils.getCurrentAuditor();
+        Instant now = SecurityUtils.getAuditInstant();
+        if (profileRepository.updateActivatedByIds(ids, activated, auditor, now) == 0) {
+            return BulkStatusResponseDTO.of(ids, Collections.emptyList());
+        }
+        List<Long> affected = profileRepository.findIdsModifiedAt(ids, auditor, now);
+        invalidationBus.publish(InvalidationEntity.PROFILE, affected);
+        return BulkStatusResponseDTO.of(ids, affected);
+    }
+
+    /**
+     * Save the {@link Profile} and publish its change on the {@link InvalidationBus}.
+     *
+     * @param profile it's the profile to be saved.
+     * @return the {@link Profile} that has been saved.
+     */
+    private Profile saveAndPublish(Profile profile) {
+        Profile saved = profileRepository.saveAndFlush(profile);
+        invalidationBus.publish(InvalidationEntity.PROFILE, saved.getId());
+        return saved;
     }
 
     /**
@@ -135,19 +187,4 @@ public class ProfileService {
         }
     }
 
-    /**
-     * Verify if the field has been in use by other profile.
-     *
-     * @param name is the name of the profile to be checked for duplicates.
-     * @throws FieldConflictException if there is another profile using the same value.
-     */
-    private void verifyProfileNameConflict(String name, Long newProfileId) {
-        Optional<Profile> profile = profileRepository.findProfileByNameIgnoreCase(name);
-        if (Objects.isNull(newProfileId) && profile.isPresent() || Objects.nonNull(newProfileId) && profile.isPresent()
-                && !newProfileId.equals(profile.get().getId())) {
-            throw new FieldConflictException(String.format(translator.translate(CONFLICT_FIELD_MALE),
-                    translator.translate(PROFILE_ENTITY), translator.translate(FIELD_NAME)));
-        }
-    }
-
 }
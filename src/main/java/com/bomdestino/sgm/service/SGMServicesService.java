@@ -1,15 +1,18 @@
 package com.bomdestino.sgm.service;
 
+import com.bomdestino.sgm.config.invalidation.InvalidationBus;
+import com.bomdestino.sgm.config.invalidation.InvalidationEntity;
 import com.bomdestino.sgm.domain.Area;
 import com.bomdestino.sgm.domain.Profile;
 import com.bomdestino.sgm.domain.SGMService;
+import com.bomdestino.sgm.dto.AbstractListDTO;
+import com.bomdestino.sgm.dto.BulkStatusResponseDTO;
 import com.bomdestino.sgm.dto.ServiceCardResponseDTO;
 import com.bomdestino.sgm.dto.ServiceListResponseDTO;
 import com.bomdestino.sgm.dto.ServiceRequestDTO;
-import com.bomdestino.sgm.exception.exceptions.FieldConflictException;
 import com.bomdestino.sgm.exception.exceptions.NotFoundException;
 import com.bomdestino.sgm.repository.SGMServiceRepository;
-import com.bomdestino.sgm.util.Translator;
+import com.bomdestino.sgm.util.SecurityUtils;
 import com.google.common.base.Strings;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -19,9 +22,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.bomdestino.sgm.util.TranslateConstants.*;
 
@@ -34,9 +39,9 @@ import static com.bomdestino.sgm.util.TranslateConstants.*;
 @AllArgsConstructor
 public class SGMServicesService {
 
-    private final Translator translator;
     private final AreaService areaService;
     private final SGMServiceRepository sgmServiceRepository;
+    private final InvalidationBus invalidationBus;
 
     /**
      * Get a {@link SGMService} by id.
@@ -45,6 +50,7 @@ public class SGMServicesService {
      * @return the {@link SGMService} from the database.
      * @throws NotFoundException if the service doesn't exist in the database.
      */
+    @Transactional(readOnly = true)
     public SGMService getServiceById(Long id) {
         return sgmServiceRepository.findById(id).orElseThrow(() -> new NotFoundException(SGMSERVICE_ENTITY));
     }
@@ -59,6 +65,7 @@ public class SGMServicesService {
      * @param pageable it's the page configuration.
      * @return a page with a list of {@link ServiceListResponseDTO} and some pagination information.
      */
+    @Transactional(readOnly = true)
     public Page<ServiceListResponseDTO> getAllServices(String search, Pageable pageable) {
         Page<SGMService> sgmServicePage;
 
@@ -80,6 +87,7 @@ public class SGMServicesService {
      * @param pageable it's the page configuration.
      * @return a page with a list of {@link ServiceCardResponseDTO} and some pagination information.
      */
+    @Transactional(readOnly = true)
     public Page<ServiceCardResponseDTO> getAllActivatedServices(Long areaId, Pageable pageable) {
         Area area = areaService.getAreaById(areaId);
         return sgmServiceRepository.findAllByAreasContainingAndActivatedIsTrue(area, pageable)
@@ -95,16 +103,14 @@ public class SGMServicesService {
     public SGMService createSGMService(ServiceRequestDTO dto) {
         SGMService service = new SGMService();
         BeanUtils.copyProperties(dto, service);
-        dto.getAreas().forEach((area) -> {
-            service.getAreas().add(areaService.getAreaById(area.getId()));
-        });
-
-        verifyServiceNameConflict(dto.getName(), dto.getId());
-        return sgmServiceRepository.save(service);
+        service.getAreas().addAll(getRequestedAreas(dto));
+        return saveAndPublish(service);
     }
 
     /**
      * Update an existing {@link SGMService}.
+     * <p>
+     * The areas collection is kept and only diffed, so just the added or removed links are written.
      *
      * @param id  it's the id of the service to be updated.
      * @param dto it's a dto containing all service data to be updated.
@@ -112,40 +118,69 @@ public class SGMServicesService {
      */
     public SGMService updatePSGMService(Long id, ServiceRequestDTO dto) {
         SGMService service = getServiceById(id);
-        verifyServiceNameConflict(dto.getName(), dto.getId());
-        BeanUtils.copyProperties(dto, service);
-        service.setAreas(new HashSet<>());
-        dto.getAreas().forEach((area) -> {
-            service.getAreas().add(areaService.getAreaById(area.getId()));
-        });
-        return sgmServiceRepository.save(service);
+        BeanUtils.copyProperties(dto, service, "areas");
+        Set<Area> areas = getRequestedAreas(dto);
+        service.getAreas().retainAll(areas);
+        service.getAreas().addAll(areas);
+        return saveAndPublish(service);
     }
 
     /**
-     * Update the {@link SGMService} *activated* status.
+     * Update the {@link SGMService} *activated* status with a single statement.
      *
      * @param id it's the id of the service to be updated.
      * @return the {@link SGMService} that has been updated.
      */
     public SGMService logicalExclusion(Long id) {
-        SGMService service = getServiceById(id);
-        service.setActivated(!service.isActivated());
-        return sgmServiceRepository.save(service);
+        if (sgmServiceRepository.toggleActivatedById(id, SecurityUtils.getCurrentAuditor(), SecurityUtils.getAuditInstant()) > 0) {
+            invalidationBus.publish(InvalidationEntity.SERVICE, id);
+        }
+        return getServiceById(id);
     }
 
     /**
-     * Verify if the field has been in use by other service.
+     * Update the *activated* status of a set of {@link SGMService} with a single statement.
+     * <p>
+     * The missing ids and the services that already have the status are reported as skipped. The affected ids are
+     * the ones written by the statement, found by its audit columns in the same transaction.
      *
-     * @param name is the name of the service to be checked for duplicates.
-     * @throws FieldConflictException if there is another service using the same value.
+     * @param ids       it's the ids of the services to be updated.
+     * @param activated it's the new *activated* status.
+     * @return the {@link BulkStatusResponseDTO} with the affected and skipped ids.
      */
-    private void verifyServiceNameConflict(String name, Long newServiceId) {
-        Optional<SGMService> service = sgmServiceRepository.findSGMServiceByNameIgnoreCase(name);
-        if (Objects.isNull(newServiceId) && service.isPresent() || Objects.nonNull(newServiceId) && service.isPresent()
-                && !newServiceId.equals(service.get().getId())) {
-            throw new FieldConflictException(String.format(translator.translate(CONFLICT_FIELD_MALE),
-                    translator.translate(SGMSERVICE_ENTITY), translator.translate(FIELD_NAME)));
+    public BulkStatusResponseDTO updateActivatedStatus(List<Long> ids, boolean activated) {
+        String auditor = SecurityUtils.getCurrentAuditor();
+        Instant now = SecurityUtils.getAuditInstant();
+        if (sgmServiceRepository.updateActivatedByIds(ids, activated, auditor, now) == 0) {
+            return BulkStatusResponseDTO.of(ids, Collections.emptyList());
         }
+        List<Long> affected = sgmServiceRepository.findIdsModifiedAt(ids, auditor, now);
+        invalidationBus.publish(InvalidationEntity.SERVICE, affected);
+        return BulkStatusResponseDTO.of(ids, affected);
+    }
+
+    /**
+     * Save the {@link SGMService} and publish its change on the {@link InvalidationBus}.
+     *
+     * @param service it's the service to be saved.
+     * @return the {@link SGMService} that has been saved.
+     */
+    private SGMService saveAndPublish(SGMService service) {
+        SGMService saved = sgmServiceRepository.saveAndFlush(service);
+        invalidationBus.publish(InvalidationEntity.SERVICE, saved.getId());
+        return saved;
+    }
+
+    /**
+     * Resolve all areas referenced by the dto with a single query.
+     *
+     * @param dto it's the dto containing the areas of the service.
+     * @return the {@link Area} set from the database.
+     */
+    private Set<Area> getRequestedAreas(ServiceRequestDTO dto) {
+        return areaService.getAreasByIds(dto.getAreas().stream()
+                .map(AbstractListDTO::getId)
+                .collect(Collectors.toList()));
     }
 
 }
@@ -1,8 +1,15 @@
 package com.bomdestino.sgm.service;
 
 import com.bomdestino.sgm.config.security.auth.IAccountDao;
+import com.bomdestino.sgm.config.invalidation.InvalidationBus;
+import com.bomdestino.sgm.config.invalidation.InvalidationEntity;
+import com.bomdestino.sgm.config.security.password.BreachedPasswordFilter;
+import com.bomdestino.sgm.config.security.password.PasswordPolicy;
+import com.bomdestino.sgm.config.security.password.PasswordViolation;
 import com.bomdestino.sgm.domain.User;
 import com.bomdestino.sgm.domain.enums.UserType;
+import com.bomdestino.sgm.dto.AccountResponseDTO;
+import com.bomdestino.sgm.dto.BulkStatusResponseDTO;
 import com.bomdestino.sgm.dto.PasswordChangeRequestDTO;
 import com.bomdestino.sgm.dto.UserListResponseDTO;
 import com.bomdestino.sgm.dto.UserRequestDTO;
@@ -17,20 +24,20 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static com.bomdestino.sgm.util.Constants.LOGON_ATTEMPT_CONTROL_INTERVAL_IN_SECONDS;
-import static com.bomdestino.sgm.util.Constants.USER_PASSWORD_MIN_LENGTH;
 import static com.bomdestino.sgm.util.TranslateConstants.*;
 
 /**
@@ -42,18 +49,6 @@ import static com.bomdestino.sgm.util.TranslateConstants.*;
 @RequiredArgsConstructor
 public class UserService implements IAccountDao {
 
-    @Value("${password-rules.regex.number}")
-    private String numberRegex;
-
-    @Value("${password-rules.regex.lowercase}")
-    private String lowercaseRegex;
-
-    @Value("${password-rules.regex.uppercase}")
-    private String uppercaseRegex;
-
-    @Value("${password-rules.regex.non-alphabetic}")
-    private String nonAlphabeticRegex;
-
     @Value("${password-rules.logon-attempts}")
     private Integer maxLogonAttempts;
 
@@ -64,6 +59,9 @@ public class UserService implements IAccountDao {
     private final UserRepository userRepository;
     private final ProfileService profileService;
     private final PasswordEncoder passwordEncoder;
+    private final InvalidationBus invalidationBus;
+    private final PasswordPolicy passwordPolicy;
+    private final BreachedPasswordFilter breachedPasswordFilter;
 
     /**
      * Get an Optional<User> by username.
@@ -72,6 +70,7 @@ public class UserService implements IAccountDao {
      * @return the Optional<User> from the database.
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findUserByUsername(String username) {
         return userRepository.findByUsername(username);
     }
@@ -83,6 +82,7 @@ public class UserService implements IAccountDao {
      * @return the {@link User} from the database.
      * @throws NotFoundException if the user doesn't exist in the database.
      */
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         return userRepository.findById(id).orElseThrow(() -> new NotFoundException(USER_ENTITY));
     }
@@ -94,6 +94,7 @@ public class UserService implements IAccountDao {
      * @return the {@link User} from the database.
      * @throws UsernameNotFoundException if the user doesn't exist on the database.
      */
+    @Transactional(readOnly = true)
     public User getUserByUsername(String username) throws UsernameNotFoundException {
         return findUserByUsername(username).orElseThrow(() ->
                 new UsernameNotFoundException(String.format(translator.translate(NOT_FOUND_MESSAGE),
@@ -106,12 +107,25 @@ public class UserService implements IAccountDao {
      * @return the current logged user.
      * @throws UsernameNotFoundException if the user doesn't exist on the database.
      */
+    @Transactional(readOnly = true)
     public User getLoggedUser() {
         return SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findByUsername)
                 .orElseThrow(() -> new UsernameNotFoundException(String.format(translator.translate(NOT_FOUND_MESSAGE),
                         translator.translate(USER_ENTITY))));
     }
 
+    /**
+     * Get the account of a user authenticated outside the Spring Security Context.
+     *
+     * @param authentication it's the authentication of the user.
+     * @return the {@link AccountResponseDTO} with the authorities of the authentication.
+     * @throws UsernameNotFoundException if the user doesn't exist in the database.
+     */
+    @Transactional(readOnly = true)
+    public AccountResponseDTO getAccount(Authentication authentication) {
+        return new AccountResponseDTO(getUserByUsername(authentication.getName()), authentication.getAuthorities());
+    }
+
     /**
      * Get all users from the database.
      * <p>
@@ -122,6 +136,7 @@ public class UserService implements IAccountDao {
      * @param pageable it's the page configuration.
      * @return a page with a list of {@link UserListResponseDTO} and some pagination information.
      */
+    @Transactional(readOnly = true)
     public Page<UserListResponseDTO> getAllUsers(String search, Pageable pageable) {
         Page<User> usersPage;
 
@@ -147,7 +162,7 @@ public class UserService implements IAccountDao {
         User user = mapDTOToUser(null, userDto);
         user.setSuperUser(false);
         user.setBlocked(false);
-        return userRepository.save(user);
+        return publishChange(userRepository.saveAndFlush(user));
     }
 
     /**
@@ -160,29 +175,75 @@ public class UserService implements IAccountDao {
     public User updateUser(Long id, UserRequestDTO userDto) {
         checkAndValidateUserParameters(id, userDto);
         User user = mapDTOToUser(id, userDto);
-        return userRepository.save(user);
+        return publishChange(userRepository.saveAndFlush(user));
     }
 
     /**
-     * Update the {@link User} *activated* status.
+     * Update the {@link User} *activated* status with a guarded statement.
      * <p>
-     * It will change the *blocked* status if the user is activated.
+     * It will unblock the user instead, and restart its login attempts counter, if the user is blocked.
      *
      * @param id it's the id of the user to be updated.
      * @return the {@link User} that has been updated.
      */
     public User logicalExclusion(Long id) {
-        User user = getUserById(id);
-        validateSuperUser(user);
-
-        if (user.isBlocked()) {
-            user.setBlocked(false);
-            resetBadLoginAttempts(user.getUsername());
-            return userRepository.save(user);
+        String auditor = SecurityUtils.getCurrentAuditor();
+        Instant now = SecurityUtils.getAuditInstant();
+        List<Long> ids = Collections.singletonList(id);
+        if (userRepository.unblockByIds(ids, auditor, now) == 0 && userRepository.toggleActivatedById(id, auditor, now) == 0) {
+            validateSuperUser(getUserById(id));
         }
+        return publishChange(getUserById(id));
+    }
+
+    /**
+     * Update the *activated* status of a set of {@link User} with a single statement.
+     * <p>
+     * The super user, the missing ids and the users that already have the status are reported as skipped. The
+     * affected ids are the ones written by the statement, found by its audit columns in the same transaction.
+     *
+     * @param ids       it's the ids of the users to be updated.
+     * @param activated it's the new *activated* status.
+     * @return the {@link BulkStatusResponseDTO} with the affected and skipped ids.
+     */
+    public BulkStatusResponseDTO updateActivatedStatus(List<Long> ids, boolean activated) {
+        String auditor = SecurityUtils.getCurrentAuditor();
+        Instant now = SecurityUtils.getAuditInstant();
+        int updated = userRepository.updateActivatedByIds(ids, activated, auditor, now);
+        return publishBulkChange(ids, updated, auditor, now);
+    }
 
-        user.setActivated(!user.isActivated());
-        return userRepository.save(user);
+    /**
+     * Unblock a set of {@link User} and restart their login attempts counter with a single statement.
+     * <p>
+     * The super user, the missing ids and the users that aren't blocked are reported as skipped.
+     *
+     * @param ids it's the ids of the users to be unblocked.
+     * @return the {@link BulkStatusResponseDTO} with the affected and skipped ids.
+     */
+    public BulkStatusResponseDTO unblockUsers(List<Long> ids) {
+        String auditor = SecurityUtils.getCurrentAuditor();
+        Instant now = SecurityUtils.getAuditInstant();
+        int updated = userRepository.unblockByIds(ids, auditor, now);
+        return publishBulkChange(ids, updated, auditor, now);
+    }
+
+    /**
+     * Publish the users written by a bulk statement on the {@link InvalidationBus}.
+     *
+     * @param ids     it's the requested ids.
+     * @param updated it's the count of rows written by the statement, nothing is published if it's zero.
+     * @param auditor it's the auditor written by the statement.
+     * @param now     it's the instant written by the statement.
+     * @return the {@link BulkStatusResponseDTO} with the affected and skipped ids.
+     */
+    private BulkStatusResponseDTO publishBulkChange(List<Long> ids, int updated, String auditor, Instant now) {
+        if (updated == 0) {
+            return BulkStatusResponseDTO.of(ids, Collections.emptyList());
+        }
+        List<Long> affected = userRepository.findIdsModifiedAt(ids, auditor, now);
+        invalidationBus.publish(InvalidationEntity.USER, affected);
+        return BulkStatusResponseDTO.of(ids, affected);
     }
 
     /**
@@ -281,7 +342,7 @@ public class UserService implements IAccountDao {
     public void setBlockStatusUser(User user) {
         validateSuperUser(user);
         user.setBlocked(!user.isBlocked());
-        userRepository.save(user);
+        publishChange(userRepository.save(user));
     }
 
     /**
@@ -293,12 +354,23 @@ public class UserService implements IAccountDao {
     public User validateAndUpdatePassword(PasswordChangeRequestDTO dto) {
         User currentUser = getLoggedUser();
         checkPasswordNullOrEmpty(currentUser.getId(), dto.getPassword());
-        validatePasswordPattern(dto.getPassword());
+        validatePasswordPattern(currentUser.getUsername(), dto.getPassword());
         checkPasswordUniqueness(currentUser.getId(), dto.getPassword());
         checkDifferentPassword(dto.getPassword(), dto.getConfirmPassword());
         currentUser.setPassword(passwordEncoder.encode(dto.getPassword()));
         resetParametersOnPasswordUpdate(currentUser, dto.getPassword());
-        return userRepository.save(currentUser);
+        return publishChange(userRepository.save(currentUser));
+    }
+
+    /**
+     * Publish the change of the {@link User} on the {@link InvalidationBus}.
+     *
+     * @param user it's the user that has been saved.
+     * @return the same {@link User}.
+     */
+    private User publishChange(User user) {
+        invalidationBus.publish(InvalidationEntity.USER, user.getId());
+        return user;
     }
 
     /**
@@ -329,31 +401,42 @@ public class UserService implements IAccountDao {
     }
 
     /**
-     * Validate if the password contains all the necessary characters.
+     * Validate the password against the {@link PasswordPolicy}.
      * <p>
-     * The password must contain at least 03 of those 04 types: Number, lower case letter, upper case letter and especial character.
+     * The password must have the minimum length and contain all of those 04 types: Number, lower case letter, upper
+     * case letter and especial character. It must not repeat a char too many times in a row nor contain the username.
+     * It must not be in the breached passwords list either.
      *
+     * @param username it's the username of the password owner.
      * @param password it's the password to be validated.
-     * @throws BusinessRuleException if the password doesn't contain the necessary characters.
+     * @throws BusinessRuleException with all the violated rules, or if the password has been breached.
      */
-    private void validatePasswordPattern(String password) {
-
-        if (password.length() < USER_PASSWORD_MIN_LENGTH) {
-            throw new BusinessRuleException(translator.translate(PASSWORD_IS_LESS_THAN_REQUIRED_MESSAGE));
+    private void validatePasswordPattern(String username, String password) {
+
+        int violations = passwordPolicy.check(username, password);
+        if (violations != 0) {
+            throw new BusinessRuleException(PasswordViolation.fromMask(violations).stream()
+                    .map(PasswordViolation::getMessageKey)
+                    .distinct()
+                    .map(this::translatePasswordViolation)
+                    .collect(Collectors.joining(" ")));
         }
 
-        ArrayList<Boolean> containsList = new ArrayList<>();
-        containsList.add(Pattern.compile(numberRegex).matcher(password).find());
-        containsList.add(Pattern.compile(lowercaseRegex).matcher(password).find());
-        containsList.add(Pattern.compile(uppercaseRegex).matcher(password).find());
-        containsList.add(Pattern.compile(nonAlphabeticRegex).matcher(password).find());
-
-        if (containsList.stream().filter(result -> result).count() != 4) {
-            throw new BusinessRuleException(translator.translate(PASSWORD_NOT_CONTAINS_MESSAGE));
+        if (breachedPasswordFilter.isBreached(password)) {
+            throw new BusinessRuleException(translator.translate(PASSWORD_BREACHED_MESSAGE));
         }
 
     }
 
+    /**
+     * Translate the message of a password violation, the length message is formatted with the policy minimum length.
+     */
+    private String translatePasswordViolation(String messageKey) {
+        String message = translator.translate(messageKey);
+        return PASSWORD_IS_LESS_THAN_REQUIRED_MESSAGE.equals(messageKey)
+                ? String.format(message, passwordPolicy.getMinLength()) : message;
+    }
+
     /**
      * Validate if the password is not the same of the latest 24 passwords that has been used for that user.
      *
@@ -458,31 +541,14 @@ public class UserService implements IAccountDao {
      * @param dto    it's the dto containing all data to be verified.
      */
     private void checkAndValidateUserParameters(Long userId, UserRequestDTO dto) {
-        verifyUserFieldConflict(dto.getUsername(), userId);
         checkPasswordNullOrEmpty(userId, dto.getPassword());
         if (!Strings.isNullOrEmpty(dto.getPassword())) {
-            validatePasswordPattern(dto.getPassword());
+            validatePasswordPattern(dto.getUsername(), dto.getPassword());
             checkPasswordUniqueness(userId, dto.getPassword());
             checkDifferentPassword(dto.getPassword(), dto.getConfirmPassword());
         }
     }
 
-    /**
-     * Verify if the field has been in use by other user.
-     *
-     * @param username  is the username of the user to be checked for duplicates.
-     * @param newUserId is the id of the user that is going to be created.
-     * @throws FieldConflictException if there is another user using the same value.
-     */
-    private void verifyUserFieldConflict(String username, Long newUserId) {
-        Optional<User> user = userRepository.findByUsername(username);
-        if (Objects.isNull(newUserId) && user.isPresent() || Objects.nonNull(newUserId) && user.isPresent()
-                && !newUserId.equals(user.get().getId())) {
-            throw new FieldConflictException(String.format(translator.translate(CONFLICT_FIELD_MALE),
-                    translator.translate(USER_ENTITY), translator.translate(FIELD_USERNAME)));
-        }
-    }
-
     /**
      * Get an {@link UserType} by its value.
      *
@@ -18,6 +18,8 @@ public final class Constants {
      * Authentication
      */
     public static final String AUTHORITIES_KEY = "auth";
+    public static final String PROFILE_ID_KEY = "pid";
+    public static final String ROLES_VERSION_KEY = "pv";
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_TOKEN = "Bearer ";
     public static final Long LOGON_ATTEMPT_CONTROL_INTERVAL_IN_SECONDS = 3600L;
@@ -31,6 +33,7 @@ public final class Constants {
     public static final String USER = "USER";
     public static final String SERVICE = "SGMSERVICE";
     public static final String AREA = "AREA";
+    public static final String ENTITY_CHANGE_LOG = "ENTITY_CHANGE_LOG";
 
     /**
      * User
@@ -77,6 +80,11 @@ public final class Constants {
     public static final String PATH = "PATH";
     public static final String IS_LOCAL_PATH = "IS_LOCAL_PATH";
     public static final String ROLES = "ROLES";
+    public static final String ROLES_MASK = "ROLES_MASK";
+    public static final String ROLES_VERSION = "ROLES_VERSION";
+    public static final String ENTITY_TYPE = "ENTITY_TYPE";
+    public static final String ENTITY_ID = "ENTITY_ID";
+    public static final String NODE_ID = "NODE_ID";
     public static final String IS_ONLY_READ = "IS_ONLY_READ";
     public static final String IS_RURAL_PRODUCER = "IS_RURAL_PRODUCER";
     public static final String TYPE = "TYPE";
@@ -91,4 +99,18 @@ public final class Constants {
     public static final String IS_SUPER_USER = "IS_SUPER_USER";
     public static final String IS_BLOCKED = "IS_BLOCKED";
 
+    /**
+     * Constraints
+     */
+    public static final String UK_USER_USERNAME = "UK_USER_USERNAME";
+    public static final String UK_PROFILE_NAME = "UK_PROFILE_NAME";
+    public static final String UK_SGMSERVICE_NAME = "UK_SGMSERVICE_NAME";
+    public static final String IX_ENTITY_CHANGE_LOG_CREATED_DATE = "IX_ENTITY_CHANGE_LOG_CREATED_DATE";
+
+    /**
+     * Lazy groups
+     */
+    public static final String AUDIT_LAZY_GROUP = "audit";
+    public static final String PASSWORD_LAZY_GROUP = "password";
+
 }
@@ -16,6 +16,9 @@ public final class EndpointConstants {
     public static final String PARAMS_ACTIVATED = "/activated";
     public static final String PARAMS_ID = "/{id}";
     public static final String PARAMS_DISABLE = "/{id}/logic";
+    public static final String PARAMS_ACTIVATE = "/activate";
+    public static final String PARAMS_DEACTIVATE = "/deactivate";
+    public static final String PARAMS_UNBLOCK = "/unblock";
     public static final String ROLES = "/roles";
 
     /**
@@ -46,4 +49,12 @@ public final class EndpointConstants {
      */
     public static final String SERVICE_URL = BASE_URL + "/services";
 
+    /**
+     * Management
+     */
+    public static final String MANAGEMENT_URL = BASE_URL + "/management";
+    public static final String BULKHEADS_URL = "/bulkheads";
+    public static final String LIMITER_URL = "/limiter";
+    public static final String SLO_URL = "/slo";
+
 }
@@ -0,0 +1,99 @@
+package com.bomdestino.sgm.util;
+
+import com.bomdestino.sgm.config.security.auth.SGMRole;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A service to move the profile roles from the legacy *profile_roles* element collection table to the
+ * *roles_mask* column of the profile table.
+ * <p>
+ * The legacy table is renamed to *profile_roles_backup* instead of dropped, and every step tolerates another node
+ * migrating at the same time: the masks are only written to profiles still without roles, and a failed rename means
+ * the table is already gone.
+ * <p>
+ * It runs when the bean is created, after the schema update of the entity manager factory and before the web server
+ * starts accepting requests; the security configuration depends on it, so no request is authorized with an empty
+ * roles mask.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Service
+@DependsOn("entityManagerFactory")
+public class ProfileRolesMigration implements InitializingBean {
+
+    private static final String LEGACY_ROLES_TABLE = "profile_roles";
+    private static final String BACKUP_ROLES_TABLE = LEGACY_ROLES_TABLE + "_backup";
+    private static final String SELECT_LEGACY_ROLES = "SELECT profile_id, roles FROM " + LEGACY_ROLES_TABLE;
+    private static final String UPDATE_ROLES_MASK = "UPDATE profile SET roles_mask = ? WHERE id = ? AND roles_mask = 0";
+    private static final String BACKUP_LEGACY_ROLES_TABLE = "ALTER TABLE " + LEGACY_ROLES_TABLE + " RENAME TO " + BACKUP_ROLES_TABLE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        transactionTemplate.executeWithoutResult(status -> migrate());
+    }
+
+    /**
+     * Fill the roles mask of the profiles from the legacy table and rename it to the backup table. It does nothing
+     * when the legacy table doesn't exist.
+     */
+    void migrate() {
+        Map<Long, List<String>> rolesByProfile = new HashMap<>();
+        try {
+            jdbcTemplate.query(SELECT_LEGACY_ROLES, rs -> {
+                rolesByProfile.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+            });
+        } catch (BadSqlGrammarException e) {
+            return;
+        }
+
+        Map<Long, Integer> masksByProfile = toMasks(rolesByProfile);
+        List<Object[]> updates = new ArrayList<>(masksByProfile.size());
+        masksByProfile.forEach((profileId, mask) -> updates.add(new Object[]{mask, profileId}));
+        jdbcTemplate.batchUpdate(UPDATE_ROLES_MASK, updates);
+        try {
+            jdbcTemplate.execute(BACKUP_LEGACY_ROLES_TABLE);
+        } catch (BadSqlGrammarException e) {
+            log.info("The legacy table {} has already been moved by another node", LEGACY_ROLES_TABLE);
+        }
+        log.info("The roles of {} profiles have been migrated to the roles mask, the legacy roles are kept in {}",
+                masksByProfile.size(), BACKUP_ROLES_TABLE);
+    }
+
+    /**
+     * Translate the role names of each profile to its roles mask, the unknown role names are logged and skipped.
+     *
+     * @param rolesByProfile it's the role names by profile id, as stored in the legacy table.
+     * @return the roles mask by profile id.
+     */
+    static Map<Long, Integer> toMasks(Map<Long, List<String>> rolesByProfile) {
+        Map<Long, Integer> masksByProfile = new HashMap<>(rolesByProfile.size());
+        rolesByProfile.forEach((profileId, roles) -> {
+            int mask = 0;
+            for (String role : roles) {
+                try {
+                    mask |= SGMRole.valueOf(role).getBit();
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    log.warn("Skipping the unknown role {} of the profile {}", role, profileId);
+                }
+            }
+            masksByProfile.put(profileId, mask);
+        });
+        return masksByProfile;
+    }
+
+}
@@ -0,0 +1,362 @@
+package com.bomdestino.sgm.util;
+
+import com.bomdestino.sgm.config.security.auth.SGMRole;
+import com.bomdestino.sgm.domain.enums.UserType;
+import com.bomdestino.sgm.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.bomdestino.sgm.util.TranslateConstants.CITIZEN_PROFILE;
+
+/**
+ * A service to create a large synthetic population on top of the initial data of the {@link DBLoadService}, so the
+ * query problems show up in development.
+ * <p>
+ * The rows are written with multi-row JDBC inserts, committed every *rows-per-transaction* rows, and the users share
+ * a small pool of BCrypt hashes of the same password instead of paying a BCrypt round each. The names follow a Zipf
+ * distribution over common Portuguese names, with their diacritics. It runs with the initial data, before the
+ * snapshots of the {@link com.bomdestino.sgm.service.CitizenCatalogService} are loaded.
+ * <p>
+ * Each phase is resumable: the generated rows are audited by *escala.gerador*, so a phase counts the rows an earlier
+ * run already committed and writes only the remaining ones, and the password history is filled for the generated
+ * users that still lack it. A run that failed halfway is completed by the next start.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class ScaleDataGenerator {
+
+    private static final String USERNAME_PREFIX = "escala.";
+    private static final String GENERATOR = USERNAME_PREFIX + "gerador";
+    private static final String CITIZEN_USERNAME = USERNAME_PREFIX + "cidadao";
+    private static final String EMPLOYEE_USERNAME = USERNAME_PREFIX + "servidor";
+    private static final double DEACTIVATED_RATE = 0.02;
+    private static final double BLOCKED_RATE = 0.005;
+    private static final double RURAL_PRODUCER_RATE = 0.08;
+    private static final double NEVER_LOGGED_RATE = 0.2;
+    private static final double SECOND_AREA_RATE = 0.2;
+    private static final double NAME_SKEW = 1.1;
+    private static final long ONE_YEAR_IN_SECONDS = Duration.ofDays(365).getSeconds();
+
+    private static final String AUDIT_COLUMNS = "created_by, created_date, last_modified_by, last_modified_date, activated";
+    private static final String PROFILE_COLUMNS = AUDIT_COLUMNS + ", name, description, roles_mask, roles_version, is_only_read";
+    private static final String AREA_COLUMNS = AUDIT_COLUMNS + ", name";
+    private static final String SERVICE_COLUMNS = AUDIT_COLUMNS + ", name, path, is_local_path";
+    private static final String SERVICE_AREA_COLUMNS = "sgmservice_id, areas_id";
+    private static final String USER_COLUMNS = AUDIT_COLUMNS + ", username, name, password_hash, profile_id, "
+            + "last_password_update, last_logon_attempt, last_login, logon_attempt, is_super_user, is_blocked, "
+            + "is_rural_producer, type";
+    private static final String COUNT_GENERATED_USERS = "SELECT COUNT(*) FROM `user` WHERE username LIKE '" + USERNAME_PREFIX + "%'";
+    private static final String GENERATED_USER_IDS = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM `user` WHERE username LIKE '" + USERNAME_PREFIX + "%'";
+    private static final String LAST_PASSWORD_HISTORY_USER = "SELECT COALESCE(MAX(user_id), 0) FROM user_last_password_hashes WHERE user_id >= ?";
+    private static final String INSERT_PASSWORD_HISTORY = "INSERT INTO user_last_password_hashes (user_id, last_password_hash) "
+            + "SELECT u.id, u.password_hash FROM `user` u WHERE u.id > ? AND u.id <= ? AND u.created_by = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM user_last_password_hashes h WHERE h.user_id = u.id)";
+    private static final String SERVICES_WITHOUT_AREAS = "SELECT s.id FROM sgmservice s WHERE s.created_by = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM sgmservice_areas sa WHERE sa.sgmservice_id = s.id) ORDER BY s.id";
+
+    private static final String[] FIRST_NAMES = {"Maria", "José", "Ana", "João", "Antônio", "Francisco", "Carlos",
+            "Paulo", "Pedro", "Lucas", "Luiz", "Marcos", "Luís", "Gabriel", "Rafael", "Francisca", "Daniel", "Marcelo",
+            "Bruno", "Eduardo", "Felipe", "Raimundo", "Rodrigo", "Antônia", "Adriana", "Juliana", "Márcia", "Fernanda",
+            "Patrícia", "Aline", "Sebastião", "Conceição", "Cecília", "Inês", "Lúcia", "Vitória", "Otávio", "Luíza",
+            "Mônica", "Sônia", "Ângela", "Sérgio", "Fábio", "Vinícius", "Caio", "Júlia", "Letícia", "Beatriz",
+            "Joaquim", "Débora", "Flávia", "Thaís", "Cláudio", "Rogério", "Gonçalo", "Íris", "Élson", "Zélia"};
+    private static final String[] LAST_NAMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+            "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes",
+            "Soares", "Fernandes", "Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes",
+            "Marques", "Machado", "Mendes", "Freitas", "Cardoso", "Ramos", "Gonçalves", "Santana", "Teixeira",
+            "Araújo", "Conceição", "Magalhães", "Simões", "Brandão", "Falcão", "Assunção", "Guimarães", "Romão",
+            "Estêvão", "Belém", "Patrício", "Tenório", "Galvão", "Leão"};
+    private static final String[] CONNECTORS = {"de", "da", "dos", "das"};
+    private static final String[] DEPARTMENTS = {"Educação", "Saúde", "Assistência Social", "Obras", "Fazenda",
+            "Meio Ambiente", "Habitação", "Cultura", "Esporte e Lazer", "Transportes", "Agricultura", "Segurança Pública",
+            "Turismo", "Defesa Civil", "Iluminação Pública", "Administração", "Planejamento", "Procuradoria",
+            "Ouvidoria", "Vigilância Sanitária", "Trânsito", "Previdência", "Licitações", "Comunicação"};
+    private static final String[] POSITIONS = {"Gestor", "Analista", "Técnico", "Auxiliar", "Coordenação",
+            "Diretoria", "Atendimento", "Fiscalização", "Consulta", "Auditoria"};
+    private static final String[] SERVICE_ACTIONS = {"Emissão de", "Solicitação de", "Consulta de", "Segunda via de",
+            "Agendamento de", "Renovação de", "Cancelamento de", "Acompanhamento de", "Atualização de", "Denúncia de"};
+    private static final String[] SERVICE_SUBJECTS = {"alvará", "certidão negativa", "IPTU", "licença ambiental",
+            "matrícula escolar", "consulta médica", "poda de árvore", "coleta de entulho", "habite-se", "ISS",
+            "cartão do SUS", "vacinação", "benefício eventual", "transporte escolar", "iluminação pública",
+            "protocolo", "nota fiscal eletrônica", "inscrição imobiliária", "feira livre", "cemitério municipal"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ProfileRepository profileRepository;
+    private final ScaleDataProperties properties;
+
+    private final ZipfPicker firstNames = new ZipfPicker(FIRST_NAMES.length, NAME_SKEW);
+    private final ZipfPicker lastNames = new ZipfPicker(LAST_NAMES.length, NAME_SKEW);
+
+    /**
+     * Create the synthetic profiles, areas, services and users, when *application.scale-data.enabled* is set.
+     */
+    public void generate() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<Long> profileIds = createProfiles(random, now);
+        List<Long> areaIds = createAreas(random, now);
+        List<Long> serviceIds = createServices(random, now, areaIds);
+        createUsers(random, now, profileIds);
+        createPasswordHistory();
+
+        log.info("Scale data ready in {} s: {} profiles, {} areas, {} services, {} users",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), profileIds.size(), areaIds.size(),
+                serviceIds.size(), properties.getCitizens() + properties.getEmployees());
+    }
+
+    private List<Long> createProfiles(SplittableRandom random, Timestamp now) {
+        SGMRole[] roles = SGMRole.values();
+        insert("profile", PROFILE_COLUMNS, 10, generatedRows("profile"), properties.getProfiles(), (index, row, offset) -> {
+            Set<SGMRole> profileRoles = EnumSet.noneOf(SGMRole.class);
+            while (profileRoles.isEmpty()) {
+                for (SGMRole role : roles) {
+                    if (random.nextInt(3) == 0) {
+                        profileRoles.add(role);
+                    }
+                }
+            }
+            String name = POSITIONS[index % POSITIONS.length] + " - " + DEPARTMENTS[(index / POSITIONS.length) % DEPARTMENTS.length];
+            audit(row, offset, now, random.nextDouble() >= DEACTIVATED_RATE);
+            row[offset + 5] = truncate(name + " " + (index + 1));
+            row[offset + 6] = "Perfil de " + name.toLowerCase(Locale.ROOT);
+            row[offset + 7] = SGMRole.toMask(profileRoles);
+            row[offset + 8] = 0L;
+            row[offset + 9] = false;
+        });
+        return generatedIds("profile");
+    }
+
+    private List<Long> createAreas(SplittableRandom random, Timestamp now) {
+        insert("area", AREA_COLUMNS, 6, generatedRows("area"), properties.getAreas(), (index, row, offset) -> {
+            String name = DEPARTMENTS[index % DEPARTMENTS.length];
+            audit(row, offset, now, random.nextDouble() >= DEACTIVATED_RATE);
+            row[offset + 5] = index < DEPARTMENTS.length ? name : name + " " + (index / DEPARTMENTS.length + 1);
+        });
+        return generatedIds("area");
+    }
+
+    private List<Long> createServices(SplittableRandom random, Timestamp now, List<Long> areaIds) {
+        insert("sgmservice", SERVICE_COLUMNS, 8, generatedRows("sgmservice"), properties.getServices(), (index, row, offset) -> {
+            String name = SERVICE_ACTIONS[random.nextInt(SERVICE_ACTIONS.length)] + " "
+                    + SERVICE_SUBJECTS[random.nextInt(SERVICE_SUBJECTS.length)];
+            audit(row, offset, now, random.nextInt(4) != 0);
+            row[offset + 5] = truncate(name + " " + (index + 1));
+            row[offset + 6] = "/escala/servicos/" + (index + 1);
+            row[offset + 7] = random.nextBoolean();
+        });
+        List<Long> serviceIds = generatedIds("sgmservice");
+
+        List<long[]> serviceAreas = new ArrayList<>();
+        List<Long> unlinkedServiceIds = areaIds.isEmpty() ? Collections.emptyList()
+                : jdbcTemplate.queryForList(SERVICES_WITHOUT_AREAS, Long.class, GENERATOR);
+        for (Long serviceId : unlinkedServiceIds) {
+            int first = random.nextInt(areaIds.size());
+            serviceAreas.add(new long[]{serviceId, areaIds.get(first)});
+            if (areaIds.size() > 1 && random.nextDouble() < SECOND_AREA_RATE) {
+                serviceAreas.add(new long[]{serviceId, areaIds.get((first + 1 + random.nextInt(areaIds.size() - 1)) % areaIds.size())});
+            }
+        }
+        insert("sgmservice_areas", SERVICE_AREA_COLUMNS, 2, 0, serviceAreas.size(), (index, row, offset) -> {
+            row[offset] = serviceAreas.get(index)[0];
+            row[offset + 1] = serviceAreas.get(index)[1];
+        });
+        return serviceIds;
+    }
+
+    private void createUsers(SplittableRandom random, Timestamp now, List<Long> profileIds) {
+        String[] hashes = hashPool();
+        Long citizenProfileId = profileRepository.findByNameIgnoreCase(CITIZEN_PROFILE).getId();
+        int employees = profileIds.isEmpty() ? 0 : properties.getEmployees();
+        long nowInSeconds = now.toInstant().getEpochSecond();
+        Long generatedUsers = jdbcTemplate.queryForObject(COUNT_GENERATED_USERS, Long.class);
+        int written = generatedUsers == null ? 0 : generatedUsers.intValue();
+        insert("`user`", USER_COLUMNS, 17, written, employees + properties.getCitizens(), (index, row, offset) -> {
+            boolean employee = index < employees;
+            Timestamp lastLogin = random.nextDouble() < NEVER_LOGGED_RATE ? null
+                    : Timestamp.from(Instant.ofEpochSecond(nowInSeconds - random.nextLong(ONE_YEAR_IN_SECONDS)));
+            audit(row, offset, now, random.nextDouble() >= DEACTIVATED_RATE);
+            row[offset + 5] = employee ? EMPLOYEE_USERNAME + (index + 1) : CITIZEN_USERNAME + (index - employees + 1);
+            row[offset + 6] = randomName(random);
+            row[offset + 7] = hashes[index % hashes.length];
+            row[offset + 8] = employee ? profileIds.get(random.nextInt(profileIds.size())) : citizenProfileId;
+            row[offset + 9] = now;
+            row[offset + 10] = lastLogin == null ? now : lastLogin;
+            row[offset + 11] = lastLogin;
+            row[offset + 12] = 0;
+            row[offset + 13] = false;
+            row[offset + 14] = random.nextDouble() < BLOCKED_RATE;
+            row[offset + 15] = !employee && random.nextDouble() < RURAL_PRODUCER_RATE;
+            row[offset + 16] = employee ? UserType.LEGAL_ENTITY.name() : UserType.NATURAL_PERSON.name();
+        });
+    }
+
+    /**
+     * Copy the password of the generated users to their history, in ranges of *rows-per-transaction* ids, starting
+     * after the last user an earlier run already covered.
+     */
+    private void createPasswordHistory() {
+        Map<String, Object> ids = jdbcTemplate.queryForMap(GENERATED_USER_IDS);
+        Number minId = (Number) ids.get("min_id");
+        Number maxId = (Number) ids.get("max_id");
+        if (minId == null || maxId == null) {
+            return;
+        }
+        Long lastCovered = jdbcTemplate.queryForObject(LAST_PASSWORD_HISTORY_USER, Long.class, minId.longValue());
+        long start = Math.max(minId.longValue() - 1, lastCovered == null ? 0 : lastCovered);
+        for (long from = start; from < maxId.longValue(); from += properties.getRowsPerTransaction()) {
+            long to = Math.min(from + properties.getRowsPerTransaction(), maxId.longValue());
+            long fromId = from;
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.update(INSERT_PASSWORD_HISTORY, fromId, to, GENERATOR));
+        }
+    }
+
+    /**
+     * Insert the rows from *written* up to *total*, with multi-row statements of *batch-size* rows, in transactions of
+     * *rows-per-transaction* rows.
+     */
+    private void insert(String table, String columns, int columnCount, int written, int total, RowWriter writer) {
+        if (written >= total) {
+            log.debug("Scale data: {} rows already written in {}", written, table);
+            return;
+        }
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int statementsPerTransaction = Math.max(1, properties.getRowsPerTransaction() / batchSize);
+        String batchInsert = insertSql(table, columns, columnCount, batchSize);
+        long start = System.nanoTime();
+
+        int first = written;
+        while (written < total) {
+            int from = written;
+            written = transactionTemplate.execute(status -> {
+                int next = from;
+                for (int statement = 0; statement < statementsPerTransaction && next < total; statement++) {
+                    int rows = Math.min(batchSize, total - next);
+                    Object[] values = new Object[rows * columnCount];
+                    for (int row = 0; row < rows; row++) {
+                        writer.write(next + row, values, row * columnCount);
+                    }
+                    jdbcTemplate.update(rows == batchSize ? batchInsert : insertSql(table, columns, columnCount, rows), values);
+                    next += rows;
+                }
+                return next;
+            });
+            log.debug("Scale data: {}/{} rows written in {}", written, total, table);
+        }
+        log.info("Scale data: {} rows written in {} in {} ms", total - first, table,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static String insertSql(String table, String columns, int columnCount, int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return "INSERT INTO " + table + " (" + columns + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+
+    private static void audit(Object[] row, int offset, Timestamp now, boolean activated) {
+        row[offset] = GENERATOR;
+        row[offset + 1] = now;
+        row[offset + 2] = GENERATOR;
+        row[offset + 3] = now;
+        row[offset + 4] = activated;
+    }
+
+    private int generatedRows(String table) {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE created_by = ?", Long.class, GENERATOR);
+        return rows == null ? 0 : rows.intValue();
+    }
+
+    private List<Long> generatedIds(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE created_by = ? ORDER BY id", Long.class, GENERATOR);
+    }
+
+    /**
+     * Hash the password a few times, the users share these hashes; each hash has its own salt.
+     */
+    private String[] hashPool() {
+        String[] hashes = new String[Math.max(1, properties.getPasswordHashPool())];
+        Arrays.setAll(hashes, i -> passwordEncoder.encode(properties.getPassword()));
+        return hashes;
+    }
+
+    /**
+     * A first name, sometimes a middle surname and a surname, as *Maria da Conceição Araújo*.
+     */
+    private String randomName(SplittableRandom random) {
+        StringBuilder name = new StringBuilder(FIRST_NAMES[firstNames.pick(random)]);
+        if (random.nextInt(3) == 0) {
+            name.append(' ').append(CONNECTORS[random.nextInt(CONNECTORS.length)]);
+        }
+        if (random.nextBoolean()) {
+            name.append(' ').append(LAST_NAMES[lastNames.pick(random)]);
+        }
+        return truncate(name.append(' ').append(LAST_NAMES[lastNames.pick(random)]).toString());
+    }
+
+    private static String truncate(String value) {
+        return value.length() > 100 ? value.substring(0, 100) : value;
+    }
+
+    /**
+     * Writes the values of a row at the offset of the statement values.
+     */
+    @FunctionalInterface
+    private interface RowWriter {
+
+        void write(int index, Object[] values, int offset);
+
+    }
+
+    /**
+     * Picks an index with a Zipf distribution, the first index is the most frequent.
+     */
+    private static class ZipfPicker {
+
+        private final double[] cumulative;
+
+        ZipfPicker(int size, double skew) {
+            cumulative = new double[size];
+            double sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += 1 / Math.pow(i + 1, skew);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < size; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        int pick(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.bomdestino.sgm.util;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration of the synthetic large-scale data based on Spring.
+ */
+@ConfigurationProperties(prefix = "application.scale-data")
+@Component
+@NoArgsConstructor
+@Data
+public class ScaleDataProperties {
+
+    private boolean enabled = false;
+    private int citizens = 2000000;
+
+    /**
+     * The users assigned to the generated profiles, the rest of the users are citizens.
+     */
+    private int employees = 5000;
+    private int profiles = 500;
+    private int areas = 50;
+    private int services = 5000;
+
+    /**
+     * The rows of each multi-row insert statement and the rows committed by each transaction.
+     */
+    private int batchSize = 1000;
+    private int rowsPerTransaction = 20000;
+
+    /**
+     * The BCrypt hashes computed for the password, shared by all the generated users.
+     */
+    private int passwordHashPool = 16;
+    private String password = "Escala@2022";
+    private long seed = 2022;
+
+}
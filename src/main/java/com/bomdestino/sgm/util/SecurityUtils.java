@@ -6,6 +6,8 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 /**
@@ -33,4 +35,23 @@ public final class SecurityUtils {
                 });
     }
 
+    /**
+     * Get the login to be stored in the audit columns.
+     *
+     * @return the login of the current user or the system account if there is no logged user.
+     */
+    public static String getCurrentAuditor() {
+        return getCurrentUserLogin().orElse(Constants.SYSTEM_ACCOUNT);
+    }
+
+    /**
+     * Get the instant to be stored in the audit columns by a bulk update.
+     *
+     * @return the current instant, truncated to the microseconds kept by the audit columns, so the rows written by
+     * the update can be found by it.
+     */
+    public static Instant getAuditInstant() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
 }
@@ -15,6 +15,8 @@ public final class TranslateConstants {
      * General keys
      */
     public static final String ERR_CONCURRENCY_FAILURE = "error.concurrencyFailure";
+    public static final String ERR_SERVICE_BUSY = "error.serviceBusy";
+    public static final String ERR_DEADLINE_EXCEEDED = "error.deadlineExceeded";
     public static final String NOT_FOUND_MESSAGE = "error.globalNotFound";
     public static final String ACCESS_DENIED_MESSAGE = "error.accessDenied";
     public static final String PERMISSION_DENIED_MESSAGE = "error.permissionDenied";
@@ -29,10 +31,15 @@ public final class TranslateConstants {
     public static final String PASSWORD_IS_LESS_THAN_REQUIRED_MESSAGE = "error.password.less.then.required";
     public static final String PASSWORD_EQUALS_OLD_PASSWORD_MESSAGE = "error.password.newPassEqualsOldPassword";
     public static final String PASSWORD_NOT_EQUAL_MESSAGE = "error.password.notEqual";
+    public static final String PASSWORD_BREACHED_MESSAGE = "error.password.breached";
+    public static final String PASSWORD_REPEATED_RUN_MESSAGE = "error.password.repeatedRun";
+    public static final String PASSWORD_SIMILAR_TO_USERNAME_MESSAGE = "error.password.similarToUsername";
     public static final String REQUIRED_MESSAGE = "error.requiredField";
     public static final String INVALID_USER_TYPE = "error.invalidUserType";
     public static final String ACCOUNT_SESSION_EXPIRED = "error.session.expired";
     public static final String INVALID_REFRESH_TOKEN = "error.session.invalidToken";
+    public static final String BULK_IDS_EMPTY = "bulk.ids.empty";
+    public static final String BULK_IDS_SIZE = "bulk.ids.size";
 
     public static final URI DEFAULT_TYPE = URI.create("/problem");
     public static final URI CONSTRAINT_VIOLATION_TYPE = URI.create("/constraint-violation");
@@ -15,6 +15,8 @@ import static com.bomdestino.sgm.util.Constants.SYSTEM_ADMIN_LANGUAGE;
 @AllArgsConstructor
 public class Translator {
 
+    private static final Locale LOCALE = Locale.forLanguageTag(SYSTEM_ADMIN_LANGUAGE);
+
     private final ResourceBundleMessageSource messageSource;
 
     /**
@@ -24,7 +26,16 @@ public class Translator {
      * @return a translated message if the code exist.
      */
     public String translate(String messageCode) {
-        return messageSource.getMessage(messageCode, null, Locale.forLanguageTag(SYSTEM_ADMIN_LANGUAGE));
+        return messageSource.getMessage(messageCode, null, LOCALE);
+    }
+
+    /**
+     * Get the locale of the translated messages.
+     *
+     * @return the system locale.
+     */
+    public Locale getLocale() {
+        return LOCALE;
     }
 
 }
@@ -0,0 +1,89 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import com.bomdestino.sgm.config.RejectedRequestResponse;
+import com.bomdestino.sgm.util.Translator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadFilterTests {
+
+	private static final String LOGIN_URL = "/api/authenticate";
+
+	private final BulkheadProperties properties = properties();
+	private final BulkheadRegistry registry = new BulkheadRegistry(properties);
+	private final BulkheadFilter filter = new BulkheadFilter(registry, properties, rejectedRequestResponse());
+
+	@Test
+	void exposesTheGroupToTheChainAndReleasesTheSlot() throws Exception {
+		AtomicReference<BulkheadGroup> group = new AtomicReference<>();
+
+		filter.doFilter(request(), new MockHttpServletResponse(), (request, response) -> group.set(BulkheadContext.current()));
+
+		assertThat(group.get()).isEqualTo(BulkheadGroup.AUTH);
+		assertThat(BulkheadContext.current()).isNull();
+		assertThat(registry.get(BulkheadGroup.AUTH).getInFlight()).isZero();
+	}
+
+	@Test
+	void answersAFullCompartmentWith503AndRetryAfter() throws Exception {
+		registry.get(BulkheadGroup.AUTH).tryEnter();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<Boolean> called = new AtomicReference<>(false);
+
+		filter.doFilter(request(), response, (request, ignored) -> called.set(true));
+
+		assertThat(called.get()).isFalse();
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		assertThat(response.getContentAsString()).isNotEmpty();
+		assertThat(registry.get(BulkheadGroup.AUTH).getRejected()).isEqualTo(1);
+	}
+
+	@Test
+	void keepsTheSlotOfAnAsyncRequestUntilItCompletes() throws Exception {
+		MockHttpServletRequest request = request();
+		request.setAsyncSupported(true);
+		FilterChain startAsync = (servletRequest, servletResponse) -> servletRequest.startAsync();
+
+		filter.doFilter(request, new MockHttpServletResponse(), startAsync);
+
+		Bulkhead bulkhead = registry.get(BulkheadGroup.AUTH);
+		assertThat(bulkhead.getInFlight()).isEqualTo(1);
+		assertThat(bulkhead.tryEnter()).isFalse();
+
+		request.getAsyncContext().complete();
+		assertThat(bulkhead.getInFlight()).isZero();
+	}
+
+	private static MockHttpServletRequest request() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN_URL);
+		request.setServletPath(LOGIN_URL);
+		return request;
+	}
+
+	private static BulkheadProperties properties() {
+		BulkheadProperties.Compartment auth = new BulkheadProperties.Compartment();
+		auth.setMaxConcurrent(1);
+		BulkheadProperties properties = new BulkheadProperties();
+		properties.setRetryAfterInSeconds(2);
+		properties.getGroups().put(BulkheadGroup.AUTH, auth);
+		return properties;
+	}
+
+	private static RejectedRequestResponse rejectedRequestResponse() {
+		ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+		messageSource.setBasename("messages");
+		messageSource.setDefaultEncoding("UTF-8");
+		return new RejectedRequestResponse(new Translator(messageSource), new ObjectMapper());
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadGroupTests {
+
+	@Test
+	void resolvesTheAuthenticationEndpoints() {
+		assertThat(BulkheadGroup.of(request("POST", "/api/authenticate"))).isEqualTo(BulkheadGroup.AUTH);
+		assertThat(BulkheadGroup.of(request("POST", "/api/authenticate/refresh"))).isEqualTo(BulkheadGroup.AUTH);
+	}
+
+	@Test
+	void resolvesTheCitizenReads() {
+		assertThat(BulkheadGroup.of(request("GET", "/api/account"))).isEqualTo(BulkheadGroup.CITIZEN);
+		assertThat(BulkheadGroup.of(request("GET", "/api/areas/activated"))).isEqualTo(BulkheadGroup.CITIZEN);
+		assertThat(BulkheadGroup.of(request("GET", "/api/services/activated/3"))).isEqualTo(BulkheadGroup.CITIZEN);
+	}
+
+	@Test
+	void resolvesEveryOtherRequestToAdmin() {
+		assertThat(BulkheadGroup.of(request("PUT", "/api/account"))).isEqualTo(BulkheadGroup.ADMIN);
+		assertThat(BulkheadGroup.of(request("GET", "/api/services"))).isEqualTo(BulkheadGroup.ADMIN);
+		assertThat(BulkheadGroup.of(request("GET", "/api/areas/activatedx"))).isEqualTo(BulkheadGroup.ADMIN);
+		assertThat(BulkheadGroup.of(request("PATCH", "/api/users/unblock"))).isEqualTo(BulkheadGroup.ADMIN);
+	}
+
+	private static MockHttpServletRequest request(String method, String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+		request.setServletPath(path);
+		return request;
+	}
+
+}
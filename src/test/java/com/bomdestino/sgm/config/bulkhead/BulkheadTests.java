@@ -0,0 +1,46 @@
+package com.bomdestino.sgm.config.bulkhead;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadTests {
+
+	@Test
+	void rejectsTheRequestsAboveTheLimit() {
+		Bulkhead bulkhead = new Bulkhead(BulkheadGroup.AUTH, 2, 0);
+
+		assertThat(bulkhead.tryEnter()).isTrue();
+		assertThat(bulkhead.tryEnter()).isTrue();
+		assertThat(bulkhead.tryEnter()).isFalse();
+
+		assertThat(bulkhead.getInFlight()).isEqualTo(2);
+		assertThat(bulkhead.getAccepted()).isEqualTo(2);
+		assertThat(bulkhead.getRejected()).isEqualTo(1);
+	}
+
+	@Test
+	void admitsAgainAfterAnExit() {
+		Bulkhead bulkhead = new Bulkhead(BulkheadGroup.AUTH, 1, 0);
+		bulkhead.tryEnter();
+
+		bulkhead.exit();
+
+		assertThat(bulkhead.getInFlight()).isZero();
+		assertThat(bulkhead.tryEnter()).isTrue();
+	}
+
+	@Test
+	void waitsForAFreeSlotUpToTheMaxWait() {
+		Bulkhead bulkhead = new Bulkhead(BulkheadGroup.AUTH, 1, 20);
+		bulkhead.tryEnter();
+
+		long start = System.nanoTime();
+		assertThat(bulkhead.tryEnter()).isFalse();
+
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+	}
+
+}
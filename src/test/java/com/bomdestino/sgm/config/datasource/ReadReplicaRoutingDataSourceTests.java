@@ -0,0 +1,107 @@
+package com.bomdestino.sgm.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTests {
+
+	private final DataSource primary = mock(DataSource.class);
+	private final DataSource replica = mock(DataSource.class);
+	private final Connection primaryConnection = mock(Connection.class);
+	private final Connection replicaConnection = mock(Connection.class);
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		when(primary.getConnection()).thenReturn(primaryConnection);
+		when(replica.getConnection()).thenReturn(replicaConnection);
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("maria.silva", null));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void routesTheReadOnlyTransactionsToTheReplica() throws SQLException {
+		ReadReplicaRoutingDataSource dataSource = dataSource(5, 10);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+	}
+
+	@Test
+	void routesTheWritesToThePrimary() throws SQLException {
+		ReadReplicaRoutingDataSource dataSource = dataSource(5, 10);
+
+		assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+	}
+
+	@Test
+	void keepsTheReadsOfAWriterOnThePrimaryInsideTheWindow() throws SQLException {
+		ReadReplicaRoutingDataSource dataSource = dataSource(5, 10);
+		dataSource.getConnection();
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("joao.souza", null));
+		assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+	}
+
+	@Test
+	void routesTheReadsOfAWriterToTheReplicaAfterTheWindow() throws Exception {
+		ReadReplicaRoutingDataSource dataSource = dataSource(0, 10);
+		dataSource.getConnection();
+		Thread.sleep(1);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+	}
+
+	@Test
+	void fallsBackToThePrimaryWhenTheReplicaIsDown() throws SQLException {
+		when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+		ReadReplicaRoutingDataSource dataSource = dataSource(5, 10);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+		assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+		verify(replica, times(1)).getConnection();
+	}
+
+	@Test
+	void triesTheReplicaAgainAfterTheRetryDelay() throws SQLException {
+		when(replica.getConnection()).thenThrow(new SQLException("Connection refused")).thenReturn(replicaConnection);
+		ReadReplicaRoutingDataSource dataSource = dataSource(5, 0);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+		assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+	}
+
+	private ReadReplicaRoutingDataSource dataSource(long windowInSeconds, long replicaRetryDelayInSeconds) {
+		return new ReadReplicaRoutingDataSource(primary, replica, new ReadYourWritesTracker(windowInSeconds),
+				replicaRetryDelayInSeconds);
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.bomdestino.sgm.config.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesTrackerTests {
+
+	@Test
+	void opensTheWindowOnlyForTheWriter() {
+		ReadYourWritesTracker tracker = new ReadYourWritesTracker(5);
+
+		tracker.registerWrite("maria.silva");
+
+		assertThat(tracker.isWithinWindow("maria.silva")).isTrue();
+		assertThat(tracker.isWithinWindow("joao.souza")).isFalse();
+	}
+
+	@Test
+	void closesTheWindowAfterItsLength() throws InterruptedException {
+		ReadYourWritesTracker tracker = new ReadYourWritesTracker(0);
+
+		tracker.registerWrite("maria.silva");
+		Thread.sleep(1);
+
+		assertThat(tracker.isWithinWindow("maria.silva")).isFalse();
+	}
+
+	@Test
+	void ignoresTheAnonymousWrites() {
+		ReadYourWritesTracker tracker = new ReadYourWritesTracker(5);
+
+		tracker.registerWrite(null);
+
+		assertThat(tracker.isWithinWindow(null)).isFalse();
+	}
+
+}
@@ -0,0 +1,158 @@
+package com.bomdestino.sgm.config.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTests {
+
+	private static final long ONE_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Test
+	void growsTheLimitWhileTheLatencyIsSteady() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20));
+
+		for (int i = 0; i < 10; i++) {
+			int before = limiter.getLimit();
+			window(limiter, before, ONE_MS);
+			assertThat(limiter.getLimit()).isGreaterThan(before);
+		}
+	}
+
+	@Test
+	void growsTheLimitWhileTheLatencyIsWithinTheTolerance() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20));
+		window(limiter, limiter.getLimit(), ONE_MS);
+
+		int before = limiter.getLimit();
+		window(limiter, before, ONE_MS * 12 / 10);
+
+		assertThat(limiter.getLimit()).isGreaterThan(before);
+	}
+
+	@Test
+	void shrinksTheLimitByAtMostHalfWhenTheLatencyRises() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(50));
+		window(limiter, limiter.getLimit(), ONE_MS);
+		window(limiter, limiter.getLimit(), ONE_MS);
+
+		int before = limiter.getLimit();
+		window(limiter, before, 10 * ONE_MS);
+
+		assertThat(limiter.getLimit()).isLessThan(before).isGreaterThanOrEqualTo(before / 2);
+	}
+
+	@Test
+	void keepsTheLimitWithinItsBounds() {
+		LimiterProperties properties = properties(50);
+		properties.setMaxLimit(60);
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+		for (int i = 0; i < 10; i++) {
+			window(limiter, limiter.getLimit(), ONE_MS);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(60);
+
+		long rtt = ONE_MS;
+		for (int i = 0; i < 10; i++) {
+			rtt *= 10;
+			window(limiter, limiter.getLimit(), rtt);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void keepsTheLimitOnAppLimitedWindows() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20));
+
+		window(limiter, 5, ONE_MS);
+		assertThat(limiter.getLimit()).isEqualTo(20);
+
+		window(limiter, 9, 100 * ONE_MS);
+		assertThat(limiter.getLimit()).isEqualTo(20);
+	}
+
+	@Test
+	void keepsTheLimitWhenTheRequestsAreReleasedWithoutSample() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20));
+
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire(LimiterPriority.HIGH);
+		}
+		for (int i = 0; i < 20; i++) {
+			limiter.releaseWithoutSample();
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(20);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void shedsTheLowerPrioritiesFirst() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(10));
+
+		assertThat(acquire(limiter, LimiterPriority.LOW, 6)).isEqualTo(5);
+		assertThat(acquire(limiter, LimiterPriority.NORMAL, 4)).isEqualTo(3);
+		assertThat(acquire(limiter, LimiterPriority.HIGH, 3)).isEqualTo(2);
+
+		assertThat(limiter.getInFlight()).isEqualTo(10);
+		assertThat(limiter.getAccepted()).isEqualTo(10);
+		assertThat(limiter.getShed(LimiterPriority.LOW)).isEqualTo(1);
+		assertThat(limiter.getShed(LimiterPriority.NORMAL)).isEqualTo(1);
+		assertThat(limiter.getShed(LimiterPriority.HIGH)).isEqualTo(1);
+
+		limiter.releaseWithoutSample();
+		assertThat(limiter.tryAcquire(LimiterPriority.LOW)).isFalse();
+		assertThat(limiter.tryAcquire(LimiterPriority.NORMAL)).isFalse();
+		assertThat(limiter.tryAcquire(LimiterPriority.HIGH)).isTrue();
+	}
+
+	@Test
+	void admitsALowPriorityRequestOnTheSmallestLimit() {
+		LimiterProperties properties = properties(1);
+		properties.setMinLimit(1);
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+		assertThat(limiter.tryAcquire(LimiterPriority.LOW)).isTrue();
+		assertThat(limiter.tryAcquire(LimiterPriority.HIGH)).isFalse();
+	}
+
+	/**
+	 * Windows close on every sampled release and the new estimate fully replaces the limit, so each window is
+	 * a single, predictable, update.
+	 */
+	private static LimiterProperties properties(int initialLimit) {
+		LimiterProperties properties = new LimiterProperties();
+		properties.setInitialLimit(initialLimit);
+		properties.setMinLimit(10);
+		properties.setMaxLimit(500);
+		properties.setSmoothing(1.0);
+		properties.setWindowInMs(0);
+		properties.setMinWindowSamples(1);
+		return properties;
+	}
+
+	/**
+	 * Run a window with the given requests in flight, it's closed by the last release.
+	 */
+	private static void window(AdaptiveConcurrencyLimiter limiter, int requests, long rttNanos) {
+		assertThat(acquire(limiter, LimiterPriority.HIGH, requests)).isEqualTo(requests);
+		for (int i = 1; i < requests; i++) {
+			limiter.releaseWithoutSample();
+		}
+		limiter.release(rttNanos);
+	}
+
+	private static int acquire(AdaptiveConcurrencyLimiter limiter, LimiterPriority priority, int requests) {
+		int admitted = 0;
+		for (int i = 0; i < requests; i++) {
+			if (limiter.tryAcquire(priority)) {
+				admitted++;
+			}
+		}
+		return admitted;
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.bomdestino.sgm.config.security.auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SGMRoleTests {
+
+	@Test
+	void eachRoleOwnsADistinctBit() {
+		int mask = 0;
+		for (SGMRole role : SGMRole.values()) {
+			assertThat(Integer.bitCount(role.getBit())).isEqualTo(1);
+			assertThat(mask & role.getBit()).isZero();
+			mask |= role.getBit();
+		}
+	}
+
+	@Test
+	void convertsEverySetOfRolesToAMaskAndBack() {
+		int allRoles = SGMRole.toMask(EnumSet.allOf(SGMRole.class));
+		for (int mask = 0; mask <= allRoles; mask++) {
+			if ((mask & ~allRoles) == 0) {
+				assertThat(SGMRole.toMask(SGMRole.fromMask(mask))).isEqualTo(mask);
+			}
+		}
+	}
+
+	@Test
+	void handlesNullAsAnEmptySet() {
+		assertThat(SGMRole.toMask(null)).isZero();
+		assertThat(SGMRole.fromMask(0)).isEmpty();
+	}
+
+	@Test
+	void ignoresTheUnknownBits() {
+		int unknownBit = 1 << 30;
+		assertThat(SGMRole.fromMask(SGMRole.AUDITOR.getBit() | unknownBit)).containsExactly(SGMRole.AUDITOR);
+		assertThat(SGMRole.getGrantedAuthorities(unknownBit)).isEmpty();
+	}
+
+	@Test
+	void sharesTheAuthoritiesOfAMask() {
+		int mask = SGMRole.toMask(EnumSet.of(SGMRole.AUDITOR, SGMRole.SERVICE_MANAGEMENT));
+		Set<String> authorities = SGMRole.getGrantedAuthorities(mask).stream()
+				.map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
+
+		assertThat(authorities).containsExactlyInAnyOrder("ROLE_AUDITOR", "ROLE_SERVICE_MANAGEMENT");
+		assertThat(SGMRole.getGrantedAuthorities(mask)).isSameAs(SGMRole.getGrantedAuthorities(mask));
+	}
+
+}
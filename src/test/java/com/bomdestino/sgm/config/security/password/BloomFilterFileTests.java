@@ -0,0 +1,117 @@
+package com.bomdestino.sgm.config.security.password;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterFileTests {
+
+	private static final int INSERTIONS = 1000;
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void computesTheOptimalSize() {
+		assertThat(BloomFilterFile.optimalBitCount(1000, 0.01)).isEqualTo(9586);
+		assertThat(BloomFilterFile.optimalHashCount(1000, 9586)).isEqualTo(7);
+		assertThat(BloomFilterFile.optimalBitCount(0, 0.01)).isEqualTo(64);
+		assertThat(BloomFilterFile.optimalHashCount(1000, 64)).isEqualTo(1);
+	}
+
+	@Test
+	void containsEveryAddedDigest() throws Exception {
+		BloomFilterFile filter = createFilter(directory.resolve("filter.bin"));
+
+		for (int i = 0; i < INSERTIONS; i++) {
+			assertThat(filter.mightContain(sha1("added" + i))).isTrue();
+		}
+	}
+
+	@Test
+	void keepsTheFalsePositiveRateNearTheTarget() throws Exception {
+		BloomFilterFile filter = createFilter(directory.resolve("filter.bin"));
+
+		int falsePositives = 0;
+		int probes = 20000;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain(sha1("absent" + i))) {
+				falsePositives++;
+			}
+		}
+		assertThat((double) falsePositives / probes).isLessThan(FALSE_POSITIVE_RATE * 3);
+	}
+
+	@Test
+	void reopensAWrittenFilter() throws Exception {
+		Path file = directory.resolve("filter.bin");
+		BloomFilterFile written = createFilter(file);
+		written.force();
+
+		BloomFilterFile opened = BloomFilterFile.open(file);
+
+		assertThat(opened.getBitCount()).isEqualTo(written.getBitCount());
+		assertThat(opened.getHashCount()).isEqualTo(written.getHashCount());
+		for (int i = 0; i < INSERTIONS; i++) {
+			assertThat(opened.mightContain(sha1("added" + i))).isTrue();
+		}
+	}
+
+	@Test
+	void rejectsAFileWithoutTheHeader() throws IOException {
+		Path file = Files.write(directory.resolve("short.bin"), new byte[BloomFilterFile.HEADER_SIZE - 1]);
+
+		assertThatThrownBy(() -> BloomFilterFile.open(file)).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void rejectsAFileOfAnotherFormat() throws IOException {
+		ByteBuffer header = header(0x1234L, 64);
+		Path file = Files.write(directory.resolve("other.bin"), header.array());
+
+		assertThatThrownBy(() -> BloomFilterFile.open(file)).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void rejectsATruncatedFile() throws IOException {
+		ByteBuffer header = header(BloomFilterFile.MAGIC, 1024);
+		Path file = Files.write(directory.resolve("truncated.bin"), header.array());
+
+		assertThatThrownBy(() -> BloomFilterFile.open(file)).isInstanceOf(IOException.class)
+				.hasMessageContaining("Truncated");
+	}
+
+	private static BloomFilterFile createFilter(Path file) throws Exception {
+		long bitCount = BloomFilterFile.optimalBitCount(INSERTIONS, FALSE_POSITIVE_RATE);
+		BloomFilterFile filter = BloomFilterFile.create(file, bitCount, BloomFilterFile.optimalHashCount(INSERTIONS, bitCount));
+		for (int i = 0; i < INSERTIONS; i++) {
+			filter.put(sha1("added" + i));
+		}
+		return filter;
+	}
+
+	private static ByteBuffer header(long magic, long bitCount) {
+		ByteBuffer header = ByteBuffer.allocate(BloomFilterFile.HEADER_SIZE);
+		header.putLong(0, magic);
+		header.putInt(8, BloomFilterFile.VERSION);
+		header.putInt(12, 3);
+		header.putLong(16, bitCount);
+		return header;
+	}
+
+	private static byte[] sha1(String value) throws NoSuchAlgorithmException {
+		return MessageDigest.getInstance("SHA-1").digest(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
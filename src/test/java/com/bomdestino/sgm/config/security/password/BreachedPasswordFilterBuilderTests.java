@@ -0,0 +1,91 @@
+package com.bomdestino.sgm.config.security.password;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BreachedPasswordFilterBuilderTests {
+
+	private static final double FALSE_POSITIVE_RATE = 0.001;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void acceptsOnlyHexDigestsOptionallyFollowedByACount() {
+		String digest = "5BAA61E4C9B93F3F0682250B6CF8331B7EE68FD8";
+
+		assertThat(BreachedPasswordFilterBuilder.isDigest(digest)).isTrue();
+		assertThat(BreachedPasswordFilterBuilder.isDigest(digest.toLowerCase() + ":3861493")).isTrue();
+		assertThat(BreachedPasswordFilterBuilder.isDigest(digest.substring(1))).isFalse();
+		assertThat(BreachedPasswordFilterBuilder.isDigest(digest + "0")).isFalse();
+		assertThat(BreachedPasswordFilterBuilder.isDigest("Z" + digest.substring(1))).isFalse();
+	}
+
+	@Test
+	void skipsTheMalformedLines() throws Exception {
+		Path input = Files.write(directory.resolve("digests.txt"), Arrays.asList(
+				hex("password") + ":3861493",
+				"not a digest at all, but long enough to be one",
+				"",
+				"G" + hex("123456").substring(1),
+				hex("123456")));
+		Path output = directory.resolve("filter.bin");
+
+		BreachedPasswordFilterBuilder.build(input, output, FALSE_POSITIVE_RATE);
+
+		BloomFilterFile filter = BloomFilterFile.open(output);
+		assertThat(filter.mightContain(sha1("password"))).isTrue();
+		assertThat(filter.mightContain(sha1("123456"))).isTrue();
+		assertThat(temporaryFiles()).isZero();
+	}
+
+	@Test
+	void rejectsAnInputWithoutDigests() throws IOException {
+		Path input = Files.write(directory.resolve("digests.txt"), Arrays.asList("password", "123456"));
+		Path output = directory.resolve("filter.bin");
+
+		assertThatThrownBy(() -> BreachedPasswordFilterBuilder.build(input, output, FALSE_POSITIVE_RATE))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(output).doesNotExist();
+		assertThat(temporaryFiles()).isZero();
+	}
+
+	@Test
+	void deletesTheTemporaryFileOnFailure() throws Exception {
+		Path input = Files.write(directory.resolve("digests.txt"), Arrays.asList(hex("password")));
+		Path output = Files.createDirectory(directory.resolve("filter.bin"));
+		Files.createFile(output.resolve("occupied"));
+
+		assertThatThrownBy(() -> BreachedPasswordFilterBuilder.build(input, output, FALSE_POSITIVE_RATE))
+				.isInstanceOf(IOException.class);
+		assertThat(temporaryFiles()).isZero();
+	}
+
+	private long temporaryFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(".tmp")).count();
+		}
+	}
+
+	private static String hex(String value) throws NoSuchAlgorithmException {
+		return String.format("%040X", new BigInteger(1, sha1(value)));
+	}
+
+	private static byte[] sha1(String value) throws NoSuchAlgorithmException {
+		return MessageDigest.getInstance("SHA-1").digest(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
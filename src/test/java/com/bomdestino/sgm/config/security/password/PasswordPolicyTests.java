@@ -0,0 +1,85 @@
+package com.bomdestino.sgm.config.security.password;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordPolicyTests {
+
+	private static final String NUMBER_REGEX = "(?=.*[0-9])";
+	private static final String LOWERCASE_REGEX = "(?=.*[a-z])";
+	private static final String UPPERCASE_REGEX = "(?=.*[A-Z])";
+	private static final String NON_ALPHABETIC_REGEX = "(?=.*[^a-zA-Z0-9])";
+
+	private final PasswordPolicy passwordPolicy = policy(7);
+
+	@Test
+	void acceptsAPasswordFollowingAllTheRules() {
+		assertThat(passwordPolicy.check("maria.silva", "Sgm@1234")).isZero();
+	}
+
+	@Test
+	void reportsAShortPassword() {
+		assertThat(violations(passwordPolicy.check(null, "Sg@12"))).containsExactly(PasswordViolation.TOO_SHORT);
+	}
+
+	@Test
+	void followsTheConfiguredMinLength() {
+		PasswordPolicy longerPolicy = policy(12);
+
+		assertThat(longerPolicy.getMinLength()).isEqualTo(12);
+		assertThat(violations(longerPolicy.check(null, "Sgm@1234"))).containsExactly(PasswordViolation.TOO_SHORT);
+		assertThat(longerPolicy.check(null, "Sgm@12345678")).isZero();
+	}
+
+	@Test
+	void reportsEachMissingCharClass() {
+		assertThat(violations(passwordPolicy.check(null, "Sgm@abcd"))).containsExactly(PasswordViolation.MISSING_NUMBER);
+		assertThat(violations(passwordPolicy.check(null, "SGM@1234"))).containsExactly(PasswordViolation.MISSING_LOWERCASE);
+		assertThat(violations(passwordPolicy.check(null, "sgm@1234"))).containsExactly(PasswordViolation.MISSING_UPPERCASE);
+		assertThat(violations(passwordPolicy.check(null, "Sgm12345"))).containsExactly(PasswordViolation.MISSING_NON_ALPHABETIC);
+	}
+
+	@Test
+	void keepsTheMeaningOfTheRegexesForNonAsciiChars() {
+		assertThat(passwordPolicy.check(null, "Sgm1234ç")).isZero();
+		assertThat(violations(passwordPolicy.check(null, "ÇÃÕ@1234"))).containsExactly(PasswordViolation.MISSING_LOWERCASE,
+				PasswordViolation.MISSING_UPPERCASE);
+	}
+
+	@Test
+	void reportsAllTheViolationsTogether() {
+		assertThat(violations(passwordPolicy.check(null, "aaaa"))).containsExactlyInAnyOrder(PasswordViolation.TOO_SHORT,
+				PasswordViolation.MISSING_NUMBER, PasswordViolation.MISSING_UPPERCASE,
+				PasswordViolation.MISSING_NON_ALPHABETIC, PasswordViolation.REPEATED_RUN);
+	}
+
+	@Test
+	void reportsARepeatedRunLongerThanTheLimit() {
+		assertThat(passwordPolicy.check(null, "Sgm@1114")).isZero();
+		assertThat(violations(passwordPolicy.check(null, "Sgm@1111"))).containsExactly(PasswordViolation.REPEATED_RUN);
+	}
+
+	@Test
+	void reportsAPasswordContainingTheUsernameIgnoringCase() {
+		assertThat(violations(passwordPolicy.check("maria", "1@MARIA.x"))).containsExactly(PasswordViolation.SIMILAR_TO_USERNAME);
+		assertThat(violations(passwordPolicy.check("maria", "Sgm@1maria"))).containsExactly(PasswordViolation.SIMILAR_TO_USERNAME);
+	}
+
+	@Test
+	void skipsTheSimilarityOfShortOrLongerUsernames() {
+		assertThat(passwordPolicy.check("ma", "Sgm@1ma34")).isZero();
+		assertThat(passwordPolicy.check("maria.silva.santos", "Sgm@1234")).isZero();
+	}
+
+	private static PasswordPolicy policy(int minLength) {
+		return new PasswordPolicy(NUMBER_REGEX, LOWERCASE_REGEX, UPPERCASE_REGEX, NON_ALPHABETIC_REGEX, minLength, 3);
+	}
+
+	private static Set<PasswordViolation> violations(int mask) {
+		return PasswordViolation.fromMask(mask);
+	}
+
+}
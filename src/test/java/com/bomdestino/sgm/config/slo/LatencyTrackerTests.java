@@ -0,0 +1,85 @@
+package com.bomdestino.sgm.config.slo;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyTrackerTests {
+
+	private static final int WINDOWS = 3;
+
+	private final LatencyTracker tracker = new LatencyTracker("UserResource.getAllUsers", "GET", "/api/users", 500,
+			properties());
+
+	@Test
+	void reportsOnlyTheCompleteWindows() {
+		tracker.record(millis(10));
+
+		assertThat(tracker.snapshot().getTotalCount()).isZero();
+
+		tracker.rotate();
+		assertThat(tracker.snapshot().getTotalCount()).isEqualTo(1);
+	}
+
+	@Test
+	void dropsTheOldestWindowOnRotation() {
+		for (int window = 1; window <= WINDOWS; window++) {
+			tracker.record(millis(window * 100));
+			tracker.rotate();
+		}
+		Histogram full = tracker.snapshot();
+		assertThat(full.getTotalCount()).isEqualTo(WINDOWS);
+		assertThat(full.getMinValue()).isEqualTo(full.lowestEquivalentValue(TimeUnit.MILLISECONDS.toMicros(100)));
+
+		tracker.rotate();
+		Histogram slid = tracker.snapshot();
+		assertThat(slid.getTotalCount()).isEqualTo(WINDOWS - 1);
+		assertThat(slid.getMinValue()).isEqualTo(slid.lowestEquivalentValue(TimeUnit.MILLISECONDS.toMicros(200)));
+	}
+
+	@Test
+	void resetsTheRecycledWindows() {
+		for (int i = 0; i < 10; i++) {
+			tracker.record(millis(5));
+		}
+		for (int rotation = 0; rotation <= WINDOWS; rotation++) {
+			tracker.rotate();
+		}
+		assertThat(tracker.snapshot().getTotalCount()).isZero();
+
+		tracker.record(millis(5));
+		tracker.rotate();
+		assertThat(tracker.snapshot().getTotalCount()).isEqualTo(1);
+	}
+
+	@Test
+	void clampsTheLatenciesAboveTheTrackableRange() {
+		tracker.record(TimeUnit.MINUTES.toNanos(5));
+		tracker.rotate();
+
+		Histogram snapshot = tracker.snapshot();
+		assertThat(snapshot.getTotalCount()).isEqualTo(1);
+		assertThat(snapshot.getMaxValue()).isEqualTo(snapshot.highestEquivalentValue(TimeUnit.SECONDS.toMicros(30)));
+	}
+
+	@Test
+	void convertsTheTargetToMicroseconds() {
+		assertThat(tracker.getTargetInMicros()).isEqualTo(500_000);
+	}
+
+	private static SloProperties properties() {
+		SloProperties properties = new SloProperties();
+		properties.setWindows(WINDOWS);
+		properties.setHighestTrackableInMs(30000);
+		properties.setSignificantDigits(2);
+		return properties;
+	}
+
+	private static long millis(long value) {
+		return TimeUnit.MILLISECONDS.toNanos(value);
+	}
+
+}
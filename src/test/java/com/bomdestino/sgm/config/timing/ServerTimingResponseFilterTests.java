@@ -0,0 +1,92 @@
+package com.bomdestino.sgm.config.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.bomdestino.sgm.util.Authorities.AUDITOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingResponseFilterTests {
+
+	private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	private final ServerTimingProperties properties = new ServerTimingProperties();
+	private final ServerTimingFilter timingFilter = new ServerTimingFilter(properties);
+	private final ServerTimingResponseFilter responseFilter = new ServerTimingResponseFilter(properties);
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void passesTheResponseOfAnAnonymousCallerThroughUnbuffered() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<Object> seen = new AtomicReference<>();
+
+		doFilter(requestAskingForTiming(), response, (request, servletResponse) -> seen.set(servletResponse));
+
+		assertThat(seen.get()).isSameAs(response);
+		assertThat(response.getHeader(SERVER_TIMING_HEADER)).isNull();
+	}
+
+	@Test
+	void passesTheResponseOfANonAuditorThroughUnbuffered() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null, "ROLE_USER"));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<Object> seen = new AtomicReference<>();
+
+		doFilter(requestAskingForTiming(), response, (request, servletResponse) -> seen.set(servletResponse));
+
+		assertThat(seen.get()).isSameAs(response);
+		assertThat(response.getHeader(SERVER_TIMING_HEADER)).isNull();
+	}
+
+	@Test
+	void exposesTheTimingToAnAuditor() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("auditor", null, AUDITOR));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<Object> seen = new AtomicReference<>();
+
+		doFilter(requestAskingForTiming(), response, (request, servletResponse) -> {
+			seen.set(servletResponse);
+			servletResponse.getWriter().write("body");
+		});
+
+		assertThat(seen.get()).isInstanceOf(ContentCachingResponseWrapper.class);
+		assertThat(response.getHeader(SERVER_TIMING_HEADER)).contains("total;dur=");
+		assertThat(response.getContentAsString()).isEqualTo("body");
+	}
+
+	@Test
+	void exposesTheSampledTimingToAnyCaller() throws Exception {
+		properties.setSampleRate(1);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		doFilter(new MockHttpServletRequest("GET", "/api/users"), response, (request, servletResponse) -> {
+		});
+
+		assertThat(response.getHeader(SERVER_TIMING_HEADER)).contains("total;dur=");
+	}
+
+	private void doFilter(MockHttpServletRequest request, MockHttpServletResponse response, FilterChain chain)
+			throws Exception {
+		timingFilter.doFilter(request, response, (timedRequest, timedResponse) ->
+				responseFilter.doFilter(timedRequest, timedResponse, chain));
+	}
+
+	private MockHttpServletRequest requestAskingForTiming() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+		request.addHeader(properties.getHeader(), "true");
+		return request;
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.bomdestino.sgm.exception;
+
+import com.bomdestino.sgm.exception.exceptions.BusinessRuleException;
+import com.bomdestino.sgm.exception.exceptions.DeadlineExceededException;
+import com.bomdestino.sgm.exception.exceptions.UnauthorizedCredentialsException;
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExceptionTranslatorTests {
+
+	@Test
+	void mapsTheStatusOfTheBusinessExceptions() {
+		assertThat(ExceptionTranslator.getBusinessExceptionStatus(BusinessRuleException.class)).isEqualTo(Status.BAD_REQUEST);
+		assertThat(ExceptionTranslator.getBusinessExceptionStatus(UnauthorizedCredentialsException.class)).isEqualTo(Status.UNAUTHORIZED);
+		assertThat(ExceptionTranslator.getBusinessExceptionStatus(DeadlineExceededException.class)).isEqualTo(Status.GATEWAY_TIMEOUT);
+	}
+
+	@Test
+	void mapsASubclassToTheStatusOfItsNearestMappedSuperclass() {
+		assertThat(ExceptionTranslator.getBusinessExceptionStatus(SpecificRuleException.class)).isEqualTo(Status.BAD_REQUEST);
+	}
+
+	@Test
+	void mapsAnUnmappedExceptionToInternalServerError() {
+		assertThat(ExceptionTranslator.getBusinessExceptionStatus(IllegalStateException.class)).isEqualTo(Status.INTERNAL_SERVER_ERROR);
+	}
+
+	private static class SpecificRuleException extends BusinessRuleException {
+
+		SpecificRuleException() {
+			super("specific");
+		}
+
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.bomdestino.sgm.util;
+
+import com.bomdestino.sgm.config.security.auth.SGMRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileRolesMigrationTests {
+
+	@Test
+	void translatesTheRoleNamesOfEachProfileToItsMask() {
+		Map<Long, List<String>> rolesByProfile = new HashMap<>();
+		rolesByProfile.put(1L, Arrays.asList("AUDITOR", "USER_MANAGEMENT"));
+		rolesByProfile.put(2L, Collections.singletonList("VIEW_HEALTH_SERVICES"));
+
+		Map<Long, Integer> masks = ProfileRolesMigration.toMasks(rolesByProfile);
+
+		assertThat(masks).containsOnlyKeys(1L, 2L);
+		assertThat(SGMRole.fromMask(masks.get(1L))).containsExactlyInAnyOrder(SGMRole.AUDITOR, SGMRole.USER_MANAGEMENT);
+		assertThat(SGMRole.fromMask(masks.get(2L))).containsExactly(SGMRole.VIEW_HEALTH_SERVICES);
+	}
+
+	@Test
+	void ignoresRepeatedRoles() {
+		Map<Long, Integer> masks = ProfileRolesMigration.toMasks(
+				Collections.singletonMap(1L, Arrays.asList("AUDITOR", "AUDITOR")));
+
+		assertThat(masks).containsEntry(1L, SGMRole.AUDITOR.getBit());
+	}
+
+	@Test
+	void skipsTheUnknownRoles() {
+		Map<Long, Integer> masks = ProfileRolesMigration.toMasks(
+				Collections.singletonMap(1L, Arrays.asList("REMOVED_ROLE", "PROFILE_MANAGEMENT", null)));
+
+		assertThat(masks).containsEntry(1L, SGMRole.toMask(EnumSet.of(SGMRole.PROFILE_MANAGEMENT)));
+	}
+
+	@Test
+	void keepsAnEmptyMaskForProfilesWithOnlyUnknownRoles() {
+		Map<Long, Integer> masks = ProfileRolesMigration.toMasks(
+				Collections.singletonMap(1L, Collections.singletonList("REMOVED_ROLE")));
+
+		assertThat(masks).containsEntry(1L, 0);
+	}
+
+}